@@ -0,0 +1,64 @@
+package com.zidioconnect.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Makes sure the unique keys apply relies on exist. ddl-auto=update only logs a failed
+ * ALTER, so with duplicate rows already present the constraints would silently be missing
+ * and a concurrent duplicate apply would insert a second row. Missing keys are created here;
+ * duplicate idempotency keys are cleared on all but the oldest row first, while duplicate
+ * (student, job) applications stop startup so they can be resolved by hand.
+ */
+@Component
+public class ApplicationUniqueKeyVerifier {
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationUniqueKeyVerifier.class);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // The EntityManagerFactory parameter orders this after Hibernate's schema update
+    public ApplicationUniqueKeyVerifier(JdbcTemplate jdbcTemplate, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @PostConstruct
+    public void verify() {
+        if (!exists("uk_applications_idempotency")) {
+            int cleared = jdbcTemplate.update("UPDATE applications a JOIN (SELECT student_profile_id, idempotency_key,"
+                    + " MIN(id) AS keep_id FROM applications WHERE idempotency_key IS NOT NULL"
+                    + " GROUP BY student_profile_id, idempotency_key HAVING COUNT(*) > 1) d"
+                    + " ON a.student_profile_id = d.student_profile_id AND a.idempotency_key = d.idempotency_key"
+                    + " SET a.idempotency_key = NULL WHERE a.id <> d.keep_id");
+            if (cleared > 0) {
+                logger.warn("Cleared {} duplicate idempotency keys on applications", cleared);
+            }
+            create("uk_applications_idempotency", "student_profile_id, idempotency_key");
+        }
+        if (!exists("uk_applications_student_job")) {
+            Long duplicates = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM (SELECT 1 FROM applications"
+                    + " GROUP BY student_profile_id, job_id HAVING COUNT(*) > 1) d", Long.class);
+            if (duplicates != null && duplicates > 0) {
+                throw new IllegalStateException("applications has " + duplicates + " students with more than one"
+                        + " application to the same job; remove the duplicates so uk_applications_student_job"
+                        + " can be created");
+            }
+            create("uk_applications_student_job", "student_profile_id, job_id");
+        }
+    }
+
+    private boolean exists(String constraint) {
+        Long found = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM information_schema.table_constraints"
+                + " WHERE table_schema = DATABASE() AND table_name = 'applications' AND constraint_name = ?"
+                + " AND constraint_type = 'UNIQUE'", Long.class, constraint);
+        return found != null && found > 0;
+    }
+
+    private void create(String constraint, String columns) {
+        jdbcTemplate.execute("ALTER TABLE applications ADD CONSTRAINT " + constraint + " UNIQUE (" + columns + ")");
+        logger.warn("Created missing unique key {} on applications", constraint);
+    }
+}
@@ -1,6 +1,7 @@
 package com.zidioconnect.controller;
 
 import com.zidioconnect.model.RecruiterJob;
+import com.zidioconnect.service.JobCacheService;
 import com.zidioconnect.service.RecruiterJobService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
@@ -8,16 +9,25 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/admin/jobs")
 public class AdminJobController {
     @Autowired
     private RecruiterJobService jobService;
+    @Autowired
+    private JobCacheService jobCacheService;
 
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<List<RecruiterJob>> getAllJobs() {
         return ResponseEntity.ok(jobService.getAllJobs());
     }
+
+    @GetMapping("/cache-stats")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<Map<String, Object>>> getCacheStats() {
+        return ResponseEntity.ok(jobCacheService.stats());
+    }
 }
\ No newline at end of file
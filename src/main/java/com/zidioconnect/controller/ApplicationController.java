@@ -1,20 +1,40 @@
 package com.zidioconnect.controller;
 
+import com.zidioconnect.dto.ApplicationPageResponse;
 import com.zidioconnect.dto.ApplicationRequest;
 import com.zidioconnect.dto.ApplicationResponse;
+import com.zidioconnect.dto.BulkStatusUpdateRequest;
+import com.zidioconnect.model.AbstractApplication;
 import com.zidioconnect.model.Application;
 import com.zidioconnect.model.StudentProfile;
 import com.zidioconnect.model.RecruiterJob;
 import com.zidioconnect.model.Recruiter;
+import com.zidioconnect.service.ApplicationDocumentBundleService;
+import com.zidioconnect.service.ApplicationExportService;
 import com.zidioconnect.service.ApplicationService;
+import com.zidioconnect.service.ApplyRateLimitedException;
+import com.zidioconnect.service.JobCapacityExceededException;
+import com.zidioconnect.service.JobClosedException;
+import com.zidioconnect.service.RecruiterJobService;
 import com.zidioconnect.repository.StudentProfileRepository;
 import com.zidioconnect.repository.RecruiterJobRepository;
 import com.zidioconnect.repository.RecruiterRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @RestController
@@ -28,16 +48,34 @@ public class ApplicationController {
     private RecruiterJobRepository recruiterJobRepository;
     @Autowired
     private RecruiterRepository recruiterRepository;
+    @Autowired
+    private ApplicationExportService applicationExportService;
+    @Autowired
+    private ApplicationDocumentBundleService documentBundleService;
 
     // Student applies to a job
     @PostMapping("/apply")
-    public ResponseEntity<?> applyToJob(Authentication authentication, @RequestBody ApplicationRequest request) {
+    public ResponseEntity<?> applyToJob(Authentication authentication, @RequestBody ApplicationRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
+        if (idempotencyKey != null && (idempotencyKey.isBlank() || idempotencyKey.length() > 100)) {
+            return ResponseEntity.badRequest().body("Idempotency-Key must be 1-100 characters");
+        }
         String email = authentication.getName();
         StudentProfile profile = studentProfileRepository.findByStudent_Email(email).orElse(null);
         if (profile == null) {
             return ResponseEntity.badRequest().body("Student profile not found");
         }
-        Application application = applicationService.apply(request, profile.getId());
+        Application application;
+        try {
+            application = applicationService.apply(request, profile.getId(), idempotencyKey);
+        } catch (JobClosedException | JobCapacityExceededException e) {
+            return ResponseEntity.status(409).body(e.getMessage());
+        } catch (ApplyRateLimitedException e) {
+            long retryAfter = e.getRetryAfterSeconds();
+            return ResponseEntity.status(429)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfter))
+                    .body(Map.of("message", e.getMessage(), "retryAfterSeconds", retryAfter));
+        }
         return ResponseEntity.ok(application.getId());
     }
 
@@ -49,21 +87,45 @@ public class ApplicationController {
         if (profile == null) {
             return ResponseEntity.badRequest().body("Student profile not found");
         }
-        List<Application> applications = applicationService.getApplicationsByStudent(profile.getId());
+        List<AbstractApplication> applications = applicationService.getApplicationsByStudent(profile.getId());
         return ResponseEntity.ok(applications.stream().map(this::toResponse).collect(Collectors.toList()));
     }
 
     // Recruiter views applications for a job
     @GetMapping("/job/{jobId}")
-    public ResponseEntity<?> getApplicationsForJob(Authentication authentication, @PathVariable Long jobId) {
+    public ResponseEntity<?> getApplicationsForJob(Authentication authentication, @PathVariable Long jobId,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size,
+            @RequestParam(defaultValue = "appliedAt") String sort,
+            @RequestParam(defaultValue = "desc") String direction,
+            @RequestParam(required = false) String status) {
         String email = authentication.getName();
         Recruiter recruiter = recruiterRepository.findByEmail(email).orElse(null);
         RecruiterJob job = recruiterJobRepository.findById(jobId).orElse(null);
         if (recruiter == null || job == null || !job.getRecruiter().getId().equals(recruiter.getId())) {
             return ResponseEntity.status(403).body("Unauthorized");
         }
-        List<Application> applications = applicationService.getApplicationsByJob(jobId);
-        return ResponseEntity.ok(applications.stream().map(this::toResponse).collect(Collectors.toList()));
+        String sortPath = ApplicationService.APPLICANT_SORTS.get(sort);
+        if (sortPath == null) {
+            return ResponseEntity.badRequest().body("Unsupported sort: " + sort);
+        }
+        if (!direction.equalsIgnoreCase("asc") && !direction.equalsIgnoreCase("desc")) {
+            return ResponseEntity.badRequest().body("direction must be asc or desc");
+        }
+        int pageNumber = page == null ? 0 : Math.max(page, 0);
+        int pageSize = RecruiterJobService.clampPageSize(size);
+        // id as a tie-breaker keeps pages stable when the sort key repeats
+        Sort order = Sort.by(Sort.Direction.fromString(direction), sortPath).and(Sort.by("id"));
+        Page<? extends AbstractApplication> applications = applicationService.getApplicationsByJob(job, status,
+                PageRequest.of(pageNumber, pageSize, order));
+
+        ApplicationPageResponse resp = new ApplicationPageResponse();
+        resp.items = applications.getContent().stream().map(this::toResponse).collect(Collectors.toList());
+        resp.page = applications.getNumber();
+        resp.size = applications.getSize();
+        resp.totalElements = applications.getTotalElements();
+        resp.totalPages = applications.getTotalPages();
+        return ResponseEntity.ok(resp);
     }
 
     // Recruiter updates application status (shortlist/reject)
@@ -71,20 +133,138 @@ public class ApplicationController {
     public ResponseEntity<?> updateApplicationStatus(
             Authentication authentication,
             @PathVariable Long applicationId,
-            @RequestParam("status") String status) {
-        // Optionally: Check recruiter ownership/authorization here
+            @RequestParam("status") String status,
+            @RequestParam(value = "version", required = false) Long version) {
+        Recruiter recruiter = recruiterRepository.findByEmail(authentication.getName()).orElse(null);
+        if (recruiter == null) {
+            return ResponseEntity.status(403).body("Unauthorized");
+        }
         Application app = applicationService.getApplicationById(applicationId);
         if (app == null) {
             return ResponseEntity.notFound().build();
         }
-        app.setStatus(status);
-        applicationService.save(app);
+        // Only the job's recruiter may change the status or see the current application on a conflict
+        if (!app.getJob().getRecruiter().getId().equals(recruiter.getId())) {
+            return ResponseEntity.status(403).body("Unauthorized");
+        }
+        try {
+            applicationService.updateStatus(app, status, version, authentication.getName());
+        } catch (ObjectOptimisticLockingFailureException e) {
+            return ResponseEntity.status(409).body(toResponse(applicationService.getApplicationById(applicationId)));
+        }
         return ResponseEntity.ok().build();
     }
 
-    private ApplicationResponse toResponse(Application app) {
+    // Recruiter updates the status of many applications at once
+    @PatchMapping("/status/bulk")
+    public ResponseEntity<?> bulkUpdateApplicationStatus(Authentication authentication,
+            @RequestBody BulkStatusUpdateRequest request) {
+        if (request.applicationIds == null || request.applicationIds.isEmpty()) {
+            return ResponseEntity.badRequest().body("applicationIds is required");
+        }
+        if (request.applicationIds.size() > ApplicationService.MAX_BULK_STATUS_IDS) {
+            return ResponseEntity.badRequest()
+                    .body("At most " + ApplicationService.MAX_BULK_STATUS_IDS + " applications per request");
+        }
+        if (request.status == null || request.status.isBlank()) {
+            return ResponseEntity.badRequest().body("status is required");
+        }
+        Recruiter recruiter = recruiterRepository.findByEmail(authentication.getName()).orElse(null);
+        if (recruiter == null) {
+            return ResponseEntity.status(403).body("Unauthorized");
+        }
+        return ResponseEntity.ok(
+                applicationService.bulkUpdateStatus(recruiter.getId(), request.applicationIds, request.status,
+                        authentication.getName()));
+    }
+
+    // Recruiter downloads every applicant of a job as CSV or NDJSON, streamed row by row
+    @GetMapping("/job/{jobId}/export")
+    public ResponseEntity<?> exportApplicationsForJob(Authentication authentication, @PathVariable Long jobId,
+            @RequestParam(defaultValue = ApplicationExportService.FORMAT_CSV) String format) {
+        String email = authentication.getName();
+        Recruiter recruiter = recruiterRepository.findByEmail(email).orElse(null);
+        RecruiterJob job = recruiterJobRepository.findById(jobId).orElse(null);
+        if (recruiter == null || job == null || !job.getRecruiter().getId().equals(recruiter.getId())) {
+            return ResponseEntity.status(403).body("Unauthorized");
+        }
+        MediaType contentType;
+        if (ApplicationExportService.FORMAT_CSV.equals(format)) {
+            contentType = new MediaType("text", "csv", StandardCharsets.UTF_8);
+        } else if (ApplicationExportService.FORMAT_NDJSON.equals(format)) {
+            contentType = MediaType.parseMediaType("application/x-ndjson;charset=UTF-8");
+        } else {
+            return ResponseEntity.badRequest().body("format must be csv or ndjson");
+        }
+        boolean live = ApplicationService.hasLiveApplications(job);
+        boolean archived = ApplicationService.hasArchivedApplications(job);
+        StreamingResponseBody body = out -> applicationExportService.export(jobId, live, archived, format, out);
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"job-" + jobId + "-applicants." + format + "\"")
+                .body(body);
+    }
+
+    // Recruiter downloads a ZIP of every applicant's resume and marksheet, built while streaming
+    @GetMapping("/job/{jobId}/documents.zip")
+    public ResponseEntity<?> downloadApplicantDocuments(Authentication authentication, @PathVariable Long jobId) {
+        String email = authentication.getName();
+        Recruiter recruiter = recruiterRepository.findByEmail(email).orElse(null);
+        RecruiterJob job = recruiterJobRepository.findById(jobId).orElse(null);
+        if (recruiter == null || job == null || !job.getRecruiter().getId().equals(recruiter.getId())) {
+            return ResponseEntity.status(403).body("Unauthorized");
+        }
+        boolean live = ApplicationService.hasLiveApplications(job);
+        boolean archived = ApplicationService.hasArchivedApplications(job);
+        StreamingResponseBody body = out -> documentBundleService.writeBundle(jobId, live, archived, out);
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType("application/zip"))
+                .header(HttpHeaders.CONTENT_DISPOSITION,
+                        "attachment; filename=\"job-" + jobId + "-documents.zip\"")
+                .body(body);
+    }
+
+    // Status history of one application, visible to the applicant and the job's recruiter
+    @GetMapping("/{applicationId}/timeline")
+    public ResponseEntity<?> getApplicationTimeline(Authentication authentication, @PathVariable Long applicationId) {
+        AbstractApplication app = applicationService.findApplication(applicationId);
+        if (app == null) {
+            return ResponseEntity.notFound().build();
+        }
+        String email = authentication.getName();
+        boolean isApplicant = email.equals(app.getStudentProfile().getStudent().getEmail());
+        boolean isRecruiter = email.equals(app.getJob().getRecruiter().getEmail());
+        if (!isApplicant && !isRecruiter) {
+            return ResponseEntity.status(403).body("Unauthorized");
+        }
+        return ResponseEntity.ok(applicationService.getTimeline(applicationId));
+    }
+
+    // Funnel for a job: how many applications reached each status in the window
+    @GetMapping("/job/{jobId}/funnel")
+    public ResponseEntity<?> getJobFunnel(Authentication authentication, @PathVariable Long jobId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to) {
+        String email = authentication.getName();
+        Recruiter recruiter = recruiterRepository.findByEmail(email).orElse(null);
+        RecruiterJob job = recruiterJobRepository.findById(jobId).orElse(null);
+        if (recruiter == null || job == null || !job.getRecruiter().getId().equals(recruiter.getId())) {
+            return ResponseEntity.status(403).body("Unauthorized");
+        }
+        LocalDateTime start = from != null ? from
+                : job.getCreatedAt() != null ? job.getCreatedAt() : LocalDateTime.of(1970, 1, 1, 0, 0);
+        LocalDateTime end = to != null ? to : LocalDateTime.now().plusMinutes(1);
+        if (!start.isBefore(end)) {
+            return ResponseEntity.badRequest().body("from must be before to");
+        }
+        return ResponseEntity.ok(applicationService.getFunnel(jobId, start, end));
+    }
+
+    private ApplicationResponse toResponse(AbstractApplication app) {
         ApplicationResponse resp = new ApplicationResponse();
         resp.id = app.getId();
+        resp.version = app.getVersion();
         resp.jobId = app.getJob().getId();
         resp.jobTitle = app.getJob().getTitle();
         resp.studentProfileId = app.getStudentProfile().getId();
@@ -111,6 +291,7 @@ public class ApplicationController {
         resp.appliedAt = app.getAppliedAt();
         resp.questionForApplicant = app.getJob().getQuestionForApplicant();
         resp.answerForRecruiter = app.getAnswerForRecruiter();
+        resp.fitScore = app.getFitScore();
         return resp;
     }
 
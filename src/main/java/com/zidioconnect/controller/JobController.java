@@ -1,59 +1,270 @@
 package com.zidioconnect.controller;
 
-import com.zidioconnect.model.RecruiterJob;
+import com.zidioconnect.dto.JobFacetPage;
+import com.zidioconnect.dto.JobFeedPage;
+import com.zidioconnect.dto.JobSearchHit;
+import com.zidioconnect.dto.JobWithCompanyDTO;
+import com.zidioconnect.model.StudentProfile;
+import com.zidioconnect.repository.StudentProfileRepository;
+import com.zidioconnect.service.AutocompleteService;
+import com.zidioconnect.service.JobFacetService;
+import com.zidioconnect.service.JobFeedSnapshotService;
+import com.zidioconnect.service.JobRecommendationService;
+import com.zidioconnect.service.JobSearchService;
+import com.zidioconnect.service.JobSimilarityService;
+import com.zidioconnect.service.JobStatsService;
 import com.zidioconnect.service.RecruiterJobService;
+import com.zidioconnect.service.TrendingJobService;
+import com.zidioconnect.util.JobChangesCursor;
+import com.zidioconnect.util.JobCursor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/jobs")
 public class JobController {
+    private static final int MAX_CHANGES_PAGE_SIZE = 500;
+
     @Autowired
     private RecruiterJobService jobService;
-
-    static class JobWithCompanyDTO {
-        public Long id;
-        public String title;
-        public String department;
-        public String location;
-        public String jobType;
-        public String stipendSalary;
-        public String duration;
-        public String description;
-        public String requirements;
-        public String adminApprovalStatus;
-        public String companyLogo;
-        public String companyName;
-        public String questionForApplicant;
-
-        public JobWithCompanyDTO(RecruiterJob job) {
-            this.id = job.getId();
-            this.title = job.getTitle();
-            this.department = job.getDepartment();
-            this.location = job.getLocation();
-            this.jobType = job.getJobType();
-            this.stipendSalary = job.getStipendSalary();
-            this.duration = job.getDuration();
-            this.description = job.getDescription();
-            this.requirements = job.getRequirements();
-            this.adminApprovalStatus = job.getAdminApprovalStatus();
-            this.companyLogo = job.getRecruiter() != null ? job.getRecruiter().getCompanyLogo() : null;
-            this.companyName = job.getRecruiter() != null ? job.getRecruiter().getCompany() : null;
-            this.questionForApplicant = job.getQuestionForApplicant();
-        }
-    }
+    @Autowired
+    private JobFeedSnapshotService snapshotService;
+    @Autowired
+    private JobSearchService jobSearchService;
+    @Autowired
+    private JobFacetService jobFacetService;
+    @Autowired
+    private JobRecommendationService recommendationService;
+    @Autowired
+    private JobSimilarityService similarityService;
+    @Autowired
+    private AutocompleteService autocompleteService;
+    @Autowired
+    private JobStatsService jobStatsService;
+    @Autowired
+    private TrendingJobService trendingJobService;
+    @Autowired
+    private StudentProfileRepository studentProfileRepository;
 
     @GetMapping
-    public ResponseEntity<List<JobWithCompanyDTO>> getJobs(@RequestParam(value = "all", required = false) Boolean all) {
-        List<RecruiterJob> jobs;
+    public ResponseEntity<?> getJobs(@RequestParam(value = "all", required = false) Boolean all,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit,
+            @RequestParam(value = "sort", required = false) String sort,
+            @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        if ("trending".equals(sort)) {
+            return ResponseEntity.ok(trendingPage(RecruiterJobService.clampPageSize(limit)));
+        }
+        boolean firstApprovedPage = (all == null || !all) && (cursor == null || cursor.isBlank())
+                && RecruiterJobService.clampPageSize(limit) == RecruiterJobService.DEFAULT_PAGE_SIZE;
+        if (firstApprovedPage) {
+            return snapshotResponse(snapshotService.getFirstPage(), ifNoneMatch, acceptEncoding);
+        }
+        JobCursor after;
+        try {
+            after = JobCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Invalid cursor");
+        }
+        int pageSize = RecruiterJobService.clampPageSize(limit);
+        JobFeedPage page;
         if (all != null && all) {
-            jobs = jobService.getAllJobs();
+            page = jobService.getAllJobsPage(after, pageSize);
         } else {
-            jobs = jobService.getApprovedJobs();
+            page = jobService.getApprovedJobsPage(after, pageSize);
+        }
+        return ResponseEntity.ok(page);
+    }
+
+    // Trending is a single ranked page; there is no cursor because the ranking shifts between calls
+    private JobFeedPage trendingPage(int limit) {
+        List<Long> ids = trendingJobService.top(limit).stream().map(t -> t.jobId).toList();
+        JobFeedPage page = new JobFeedPage();
+        page.items = jobService.getJobsWithCompany(ids).stream()
+                .filter(job -> "APPROVED".equals(job.adminApprovalStatus)).toList();
+        return page;
+    }
+
+    private ResponseEntity<?> snapshotResponse(JobFeedSnapshotService.Snapshot snapshot, String ifNoneMatch,
+            String acceptEncoding) {
+        if (ifNoneMatch != null) {
+            for (String tag : ifNoneMatch.split(",")) {
+                String candidate = tag.trim();
+                if (candidate.startsWith("W/")) {
+                    candidate = candidate.substring(2);
+                }
+                if (candidate.equals("*") || candidate.equals(snapshot.etag)) {
+                    return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(snapshot.etag).build();
+                }
+            }
+        }
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok()
+                .eTag(snapshot.etag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        if (acceptEncoding != null && acceptEncoding.toLowerCase().contains("gzip")) {
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(snapshot.gzip);
+        }
+        return builder.body(snapshot.json);
+    }
+
+    @GetMapping("/filter")
+    public ResponseEntity<?> filterJobs(@RequestParam(value = "location", required = false) List<String> location,
+            @RequestParam(value = "jobType", required = false) List<String> jobType,
+            @RequestParam(value = "department", required = false) List<String> department,
+            @RequestParam(value = "duration", required = false) List<String> duration,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        Map<String, List<String>> selections = new HashMap<>();
+        selections.put("location", location);
+        selections.put("jobType", jobType);
+        selections.put("department", department);
+        selections.put("duration", duration);
+        JobFacetService.Result result;
+        try {
+            result = jobFacetService.filter(selections, cursor, RecruiterJobService.clampPageSize(limit));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Invalid cursor");
+        }
+        JobFacetPage page = new JobFacetPage();
+        page.items = jobService.getJobsWithCompany(result.jobIds);
+        page.nextCursor = result.nextCursor;
+        page.total = result.total;
+        page.facets = result.facets;
+        return ResponseEntity.ok(page);
+    }
+
+    // Monthly stipend range, e.g. /api/jobs/stipend?min=10000&max=20000&currency=INR
+    @GetMapping("/stipend")
+    public ResponseEntity<?> getJobsByStipend(@RequestParam(value = "min", defaultValue = "0") Long min,
+            @RequestParam(value = "max", required = false) Long max,
+            @RequestParam(value = "currency", defaultValue = "INR") String currency,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        long upper = max != null ? max : Long.MAX_VALUE;
+        if (min < 0 || upper < min) {
+            return ResponseEntity.badRequest().body("Invalid stipend range");
+        }
+        return ResponseEntity.ok(jobService.getApprovedJobsByStipend(currency.toUpperCase(), min, upper,
+                RecruiterJobService.clampPageSize(limit)));
+    }
+
+    // Precomputed top-K matches for the logged-in student
+    @GetMapping("/recommended")
+    public ResponseEntity<?> getRecommendedJobs(Authentication authentication) {
+        StudentProfile profile = studentProfileRepository.findByStudent_Email(authentication.getName()).orElse(null);
+        if (profile == null) {
+            return ResponseEntity.badRequest().body("Student profile not found");
+        }
+        List<JobRecommendationService.Recommendation> top = recommendationService.getRecommendations(profile.getId());
+        Map<Long, Double> scores = new HashMap<>();
+        List<Long> ids = new ArrayList<>();
+        for (JobRecommendationService.Recommendation recommendation : top) {
+            scores.put(recommendation.jobId, recommendation.score);
+            ids.add(recommendation.jobId);
+        }
+        List<JobSearchHit> results = jobService.getJobsWithCompany(ids).stream()
+                .map(job -> new JobSearchHit(job, scores.get(job.id))).toList();
+        return ResponseEntity.ok(results);
+    }
+
+    // Job detail page; each call counts as a view
+    @GetMapping("/{id}")
+    public ResponseEntity<?> getJob(@PathVariable Long id) {
+        JobWithCompanyDTO job = jobService.getJobWithCompany(id);
+        if (job == null || !"APPROVED".equals(job.adminApprovalStatus)) {
+            return ResponseEntity.notFound().build();
+        }
+        jobStatsService.recordView(id);
+        trendingJobService.recordView(id);
+        return ResponseEntity.ok(job);
+    }
+
+    // Beacon sent when a student opens the apply form; only approved jobs are counted
+    @PostMapping("/{id}/apply-click")
+    public ResponseEntity<?> recordApplyClick(@PathVariable Long id) {
+        JobWithCompanyDTO job = jobService.getJobWithCompany(id);
+        if (job == null || !"APPROVED".equals(job.adminApprovalStatus)) {
+            return ResponseEntity.notFound().build();
+        }
+        jobStatsService.recordApplyClick(id);
+        return ResponseEntity.accepted().build();
+    }
+
+    @GetMapping("/{id}/similar")
+    public ResponseEntity<?> getSimilarJobs(@PathVariable Long id,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        List<JobSimilarityService.Match> matches = similarityService.findSimilar(id,
+                RecruiterJobService.clampPageSize(limit));
+        Map<Long, Double> scores = new HashMap<>();
+        List<Long> ids = new ArrayList<>();
+        for (JobSimilarityService.Match match : matches) {
+            scores.put(match.jobId, match.similarity);
+            ids.add(match.jobId);
+        }
+        List<JobSearchHit> results = jobService.getJobsWithCompany(ids).stream()
+                .map(job -> new JobSearchHit(job, scores.get(job.id))).toList();
+        return ResponseEntity.ok(results);
+    }
+
+    // Typeahead for job titles and skills; type is "title", "skill" or omitted for both
+    @GetMapping("/autocomplete")
+    public ResponseEntity<?> autocomplete(@RequestParam("q") String prefix,
+            @RequestParam(value = "type", required = false) String type,
+            @RequestParam(value = "limit", defaultValue = "10") Integer limit) {
+        if (type != null && !type.equals(AutocompleteService.TYPE_TITLE)
+                && !type.equals(AutocompleteService.TYPE_SKILL)) {
+            return ResponseEntity.badRequest().body("Unknown type: " + type);
+        }
+        return ResponseEntity.ok(autocompleteService.complete(prefix, type, RecruiterJobService.clampPageSize(limit)));
+    }
+
+    // Delta sync: pass the previous response's cursor back; omit it (and `since`) for a full sync
+    @GetMapping("/changes")
+    public ResponseEntity<?> getChanges(
+            @RequestParam(value = "since", required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime since,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        JobChangesCursor after;
+        try {
+            after = JobChangesCursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body("Invalid cursor");
+        }
+        if (after == null) {
+            after = JobChangesCursor.since(since != null ? since : LocalDateTime.of(1970, 1, 1, 0, 0));
+        }
+        int pageSize = limit != null && limit > 0 ? Math.min(limit, MAX_CHANGES_PAGE_SIZE) : MAX_CHANGES_PAGE_SIZE;
+        return ResponseEntity.ok(jobService.getChangesSince(after, pageSize));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<?> searchJobs(@RequestParam("q") String query,
+            @RequestParam(value = "limit", required = false) Integer limit) {
+        if (query == null || query.isBlank()) {
+            return ResponseEntity.badRequest().body("Query must not be empty");
+        }
+        List<JobSearchService.Hit> hits = jobSearchService.search(query, RecruiterJobService.clampPageSize(limit));
+        Map<Long, Double> scores = new HashMap<>();
+        List<Long> ids = new ArrayList<>();
+        for (JobSearchService.Hit hit : hits) {
+            scores.put(hit.jobId, hit.score);
+            ids.add(hit.jobId);
         }
-        List<JobWithCompanyDTO> jobsWithCompany = jobs.stream().map(JobWithCompanyDTO::new).toList();
-        return ResponseEntity.ok(jobsWithCompany);
+        List<JobSearchHit> results = jobService.getJobsWithCompany(ids).stream()
+                .map(job -> new JobSearchHit(job, scores.get(job.id))).toList();
+        return ResponseEntity.ok(results);
     }
-}
\ No newline at end of file
+}
@@ -1,11 +1,16 @@
 package com.zidioconnect.controller;
 
+import com.zidioconnect.dto.JobWithCompanyDTO;
+import com.zidioconnect.dto.RecruiterJobRequest;
 import com.zidioconnect.model.RecruiterJob;
 import com.zidioconnect.model.Recruiter;
 import com.zidioconnect.repository.RecruiterRepository;
+import com.zidioconnect.service.ApplicationCounterService;
+import com.zidioconnect.service.JobStatsService;
 import com.zidioconnect.service.RecruiterJobService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.ResponseEntity;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -24,40 +29,13 @@ public class RecruiterJobController {
     private RecruiterRepository recruiterRepo;
     @Autowired
     private RecruiterDocumentRepository recruiterDocumentRepository;
-
-    // Add DTO for job listing with companyLogo and companyName
-    static class JobWithCompanyDTO {
-        public Long id;
-        public String title;
-        public String department;
-        public String location;
-        public String jobType;
-        public String stipendSalary;
-        public String duration;
-        public String description;
-        public String requirements;
-        public String adminApprovalStatus;
-        public String companyLogo;
-        public String companyName;
-
-        public JobWithCompanyDTO(RecruiterJob job) {
-            this.id = job.getId();
-            this.title = job.getTitle();
-            this.department = job.getDepartment();
-            this.location = job.getLocation();
-            this.jobType = job.getJobType();
-            this.stipendSalary = job.getStipendSalary();
-            this.duration = job.getDuration();
-            this.description = job.getDescription();
-            this.requirements = job.getRequirements();
-            this.adminApprovalStatus = job.getAdminApprovalStatus();
-            this.companyLogo = job.getRecruiter() != null ? job.getRecruiter().getCompanyLogo() : null;
-            this.companyName = job.getRecruiter() != null ? job.getRecruiter().getCompany() : null;
-        }
-    }
+    @Autowired
+    private JobStatsService jobStatsService;
+    @Autowired
+    private ApplicationCounterService applicationCounterService;
 
     @PostMapping
-    public ResponseEntity<?> postJob(Authentication authentication, @RequestBody RecruiterJob job) {
+    public ResponseEntity<?> postJob(Authentication authentication, @RequestBody RecruiterJobRequest job) {
         String email = authentication.getName();
         Recruiter recruiter = recruiterRepo.findByEmail(email).orElse(null);
         if (recruiter == null) {
@@ -77,9 +55,16 @@ public class RecruiterJobController {
                         .body("All required documents must be uploaded and approved by admin before posting a job.");
             }
         }
-        job.setRecruiter(recruiter);
-        RecruiterJob saved = jobService.saveJob(job);
-        return ResponseEntity.ok(saved);
+        try {
+            RecruiterJob saved = jobService.saveJob(recruiter, job);
+            if (saved == null) {
+                return ResponseEntity.status(404).body("Job not found or not authorized");
+            }
+            return ResponseEntity.ok(saved);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            // An edit based on a stale version; return the stored job so the recruiter can retry
+            return ResponseEntity.status(409).body(jobService.loadJob(job.id));
+        }
     }
 
     @GetMapping
@@ -97,15 +82,14 @@ public class RecruiterJobController {
     @GetMapping("/approved")
     @PreAuthorize("hasRole('USER') or hasRole('STUDENT') or hasRole('RECRUITER')")
     public ResponseEntity<?> getApprovedJobs() {
-        List<RecruiterJob> jobs = jobService.getApprovedJobs();
+        List<JobWithCompanyDTO> jobs = jobService.getApprovedJobs();
         return ResponseEntity.ok(jobs);
     }
 
     // In the job listing endpoint, map to JobWithCompanyDTO
     @GetMapping("/api/jobs")
     public ResponseEntity<?> getAllJobsWithCompany() {
-        List<RecruiterJob> jobs = jobService.getAllJobs();
-        List<JobWithCompanyDTO> jobsWithCompany = jobs.stream().map(JobWithCompanyDTO::new).toList();
+        List<JobWithCompanyDTO> jobsWithCompany = jobService.getAllJobsWithCompany();
         return ResponseEntity.ok(jobsWithCompany);
     }
 
@@ -116,24 +100,69 @@ public class RecruiterJobController {
         if (recruiter == null) {
             return ResponseEntity.badRequest().body("Recruiter not found");
         }
-        RecruiterJob job = jobService.getJobById(id);
-        if (job == null || !job.getRecruiter().getId().equals(recruiter.getId())) {
+        RecruiterJob job = jobService.loadJob(id);
+        if (job == null || job.getDeletedAt() != null || !job.getRecruiter().getId().equals(recruiter.getId())) {
             return ResponseEntity.status(404).body("Job not found or not authorized");
         }
         jobService.deleteJob(id);
         return ResponseEntity.ok().body("Job deleted successfully");
     }
 
+    // Recruiter closes a job to new applications
+    @PatchMapping("/{id}/close")
+    public ResponseEntity<?> closeJob(@PathVariable Long id, Authentication authentication) {
+        Recruiter recruiter = recruiterRepo.findByEmail(authentication.getName()).orElse(null);
+        if (recruiter == null) {
+            return ResponseEntity.badRequest().body("Recruiter not found");
+        }
+        RecruiterJob job = jobService.loadJob(id);
+        if (job == null || !job.getRecruiter().getId().equals(recruiter.getId())) {
+            return ResponseEntity.status(404).body("Job not found or not authorized");
+        }
+        if (!jobService.closeJob(id)) {
+            return ResponseEntity.badRequest().body("Job is already closed");
+        }
+        return ResponseEntity.ok(java.util.Map.of("message", "Job closed", "jobId", id));
+    }
+
+    // Applicant counts by status for all of the recruiter's jobs
+    @GetMapping("/dashboard")
+    public ResponseEntity<?> getDashboard(Authentication authentication) {
+        Recruiter recruiter = recruiterRepo.findByEmail(authentication.getName()).orElse(null);
+        if (recruiter == null) {
+            return ResponseEntity.badRequest().body("Recruiter not found");
+        }
+        return ResponseEntity.ok(applicationCounterService.getDashboard(recruiter.getId()));
+    }
+
+    // View and apply-click totals for one of the recruiter's jobs, including unflushed counts
+    @GetMapping("/{id}/stats")
+    public ResponseEntity<?> getJobStats(@PathVariable Long id, Authentication authentication) {
+        Recruiter recruiter = recruiterRepo.findByEmail(authentication.getName()).orElse(null);
+        if (recruiter == null) {
+            return ResponseEntity.badRequest().body("Recruiter not found");
+        }
+        RecruiterJob job = jobService.loadJob(id);
+        if (job == null || job.getDeletedAt() != null || !job.getRecruiter().getId().equals(recruiter.getId())) {
+            return ResponseEntity.status(404).body("Job not found or not authorized");
+        }
+        return ResponseEntity.ok(jobStatsService.getStats(id));
+    }
+
     // Add this endpoint for admin job approval/rejection
     @PatchMapping("/admin/approve/{jobId}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<?> approveOrRejectJob(@PathVariable Long jobId, @RequestParam("status") String status) {
-        RecruiterJob job = jobService.getJobById(jobId);
+    public ResponseEntity<?> approveOrRejectJob(@PathVariable Long jobId, @RequestParam("status") String status,
+            @RequestParam(value = "version", required = false) Long version) {
+        RecruiterJob job;
+        try {
+            job = jobService.updateApprovalStatus(jobId, status, version);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            return ResponseEntity.status(409).body(jobService.loadJob(jobId));
+        }
         if (job == null) {
             return ResponseEntity.notFound().build();
         }
-        job.setAdminApprovalStatus(status);
-        jobService.saveJob(job);
         return ResponseEntity.ok(java.util.Map.of("message", "Job status updated", "jobId", jobId, "status", status));
     }
 }
\ No newline at end of file
@@ -7,6 +7,7 @@ import com.zidioconnect.repository.StudentRepository;
 import com.zidioconnect.service.StudentProfileService;
 import com.zidioconnect.service.FileUploadService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.security.core.Authentication;
@@ -38,8 +39,13 @@ public class StudentProfileController {
         Student student = studentRepository.findByEmail(email).orElse(null);
         if (student == null)
             return ResponseEntity.badRequest().build();
-        StudentProfileResponse resp = profileService.createOrUpdateProfile(student.getId(), req, student);
-        return ResponseEntity.ok(resp);
+        try {
+            StudentProfileResponse resp = profileService.createOrUpdateProfile(student.getId(), req, student);
+            return ResponseEntity.ok(resp);
+        } catch (ObjectOptimisticLockingFailureException e) {
+            // Someone saved first; hand back what is stored now so the client can reconcile
+            return ResponseEntity.status(409).body(profileService.getProfileByEmail(email));
+        }
     }
 
     @PostMapping("/upload-photo")
@@ -0,0 +1,18 @@
+package com.zidioconnect.dto;
+
+import java.util.List;
+
+public class ApplicationFunnelResponse {
+    public Long jobId;
+    public List<Stage> stages;
+
+    public static class Stage {
+        public String status;
+        public long applications; // distinct applications that reached this status
+
+        public Stage(String status, long applications) {
+            this.status = status;
+            this.applications = applications;
+        }
+    }
+}
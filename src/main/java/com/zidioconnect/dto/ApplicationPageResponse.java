@@ -0,0 +1,11 @@
+package com.zidioconnect.dto;
+
+import java.util.List;
+
+public class ApplicationPageResponse {
+    public List<ApplicationResponse> items;
+    public int page;
+    public int size;
+    public long totalElements;
+    public int totalPages;
+}
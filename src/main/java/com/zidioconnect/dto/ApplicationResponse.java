@@ -5,6 +5,7 @@ import java.util.List;
 
 public class ApplicationResponse {
     public Long id;
+    public long version;
     public Long jobId;
     public String jobTitle;
     public Long studentProfileId;
@@ -21,6 +22,7 @@ public class ApplicationResponse {
     public LocalDateTime appliedAt;
     public String questionForApplicant;
     public String answerForRecruiter;
+    public Double fitScore; // null until background scoring has run
 
     public List<String> skills;
 
@@ -0,0 +1,8 @@
+package com.zidioconnect.dto;
+
+import java.util.List;
+
+public class BulkStatusUpdateRequest {
+    public List<Long> applicationIds;
+    public String status;
+}
@@ -0,0 +1,18 @@
+package com.zidioconnect.dto;
+
+import java.util.List;
+
+public class BulkStatusUpdateResponse {
+    public int updated;
+    public List<Result> results;
+
+    public static class Result {
+        public Long applicationId;
+        public String outcome; // UPDATED, NOT_FOUND, FORBIDDEN
+
+        public Result(Long applicationId, String outcome) {
+            this.applicationId = applicationId;
+            this.outcome = outcome;
+        }
+    }
+}
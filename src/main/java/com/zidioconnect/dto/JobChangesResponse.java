@@ -0,0 +1,24 @@
+package com.zidioconnect.dto;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Delta-sync page. Clients apply tombstones, then upserts, and pass cursor back as the next `cursor`.
+public class JobChangesResponse {
+    public List<JobWithCompanyDTO> upserts;
+    public List<Tombstone> tombstones;
+    public String cursor;
+    public boolean hasMore;
+
+    public static class Tombstone {
+        public Long jobId;
+        public String reason;
+        public LocalDateTime removedAt;
+
+        public Tombstone(Long jobId, String reason, LocalDateTime removedAt) {
+            this.jobId = jobId;
+            this.reason = reason;
+            this.removedAt = removedAt;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.zidioconnect.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public class JobFacetPage {
+    public List<JobWithCompanyDTO> items;
+    public String nextCursor; // null when there are no more pages
+    public int total;
+    public Map<String, List<FacetCount>> facets;
+
+    public static class FacetCount {
+        public String value;
+        public int count;
+
+        public FacetCount(String value, int count) {
+            this.value = value;
+            this.count = count;
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.zidioconnect.dto;
+
+import java.util.List;
+
+public class JobFeedPage {
+    public List<JobWithCompanyDTO> items;
+    public String nextCursor; // null when there are no more pages
+}
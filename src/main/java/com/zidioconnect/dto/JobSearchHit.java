@@ -0,0 +1,11 @@
+package com.zidioconnect.dto;
+
+public class JobSearchHit {
+    public JobWithCompanyDTO job;
+    public double score;
+
+    public JobSearchHit(JobWithCompanyDTO job, double score) {
+        this.job = job;
+        this.score = score;
+    }
+}
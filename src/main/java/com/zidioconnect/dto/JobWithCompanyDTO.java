@@ -0,0 +1,47 @@
+package com.zidioconnect.dto;
+
+import java.time.LocalDateTime;
+
+// Read model for job listings; built directly by the repository projection queries
+// so the recruiter's company name and logo come back in the same round-trip as the job.
+public class JobWithCompanyDTO {
+    public Long id;
+    public String title;
+    public String department;
+    public String location;
+    public String jobType;
+    public String stipendSalary;
+    public String duration;
+    public String description;
+    public String requirements;
+    public String adminApprovalStatus;
+    public String companyLogo;
+    public String companyName;
+    public String questionForApplicant;
+    public LocalDateTime createdAt;
+    public LocalDateTime updatedAt;
+
+    public JobWithCompanyDTO() {
+    }
+
+    public JobWithCompanyDTO(Long id, String title, String department, String location, String jobType,
+            String stipendSalary, String duration, String description, String requirements,
+            String adminApprovalStatus, String companyLogo, String companyName, String questionForApplicant,
+            LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this.id = id;
+        this.title = title;
+        this.department = department;
+        this.location = location;
+        this.jobType = jobType;
+        this.stipendSalary = stipendSalary;
+        this.duration = duration;
+        this.description = description;
+        this.requirements = requirements;
+        this.adminApprovalStatus = adminApprovalStatus;
+        this.companyLogo = companyLogo;
+        this.companyName = companyName;
+        this.questionForApplicant = questionForApplicant;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+    }
+}
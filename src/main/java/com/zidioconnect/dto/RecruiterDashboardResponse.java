@@ -0,0 +1,18 @@
+package com.zidioconnect.dto;
+
+import java.util.List;
+import java.util.Map;
+
+public class RecruiterDashboardResponse {
+    public long totalApplications;
+    public Map<String, Long> totalsByStatus;
+    public List<JobCounts> jobs;
+
+    public static class JobCounts {
+        public Long jobId;
+        public String title;
+        public String adminApprovalStatus;
+        public long totalApplications;
+        public Map<String, Long> byStatus;
+    }
+}
@@ -0,0 +1,16 @@
+package com.zidioconnect.dto;
+
+public class RecruiterJobRequest {
+    public Long id; // set when editing an existing job
+    public Long version; // version the form was loaded with; null skips the conflict check
+    public String title;
+    public String department;
+    public String location;
+    public String jobType;
+    public String stipendSalary;
+    public String duration;
+    public String description;
+    public String requirements;
+    public String questionForApplicant;
+    public Integer maxApplicants;
+}
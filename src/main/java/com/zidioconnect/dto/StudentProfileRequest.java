@@ -5,6 +5,7 @@ import java.util.List;
 import com.fasterxml.jackson.annotation.JsonFormat;
 
 public class StudentProfileRequest {
+    public Long version; // version the form was loaded with; null skips the conflict check
     public String firstName;
     public String lastName;
     public String email;
@@ -6,6 +6,7 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 
 public class StudentProfileResponse {
     public Long id;
+    public long version;
     public String firstName;
     public String lastName;
     public String email;
@@ -0,0 +1,25 @@
+package com.zidioconnect.event;
+
+// Published by RecruiterJobService after a job row has been written or removed.
+// In-memory read models (caches, indexes) listen to this to stay in sync with the database.
+public class JobChangedEvent {
+    public enum Type {
+        SAVED, STATUS_CHANGED, DELETED
+    }
+
+    private final Long jobId;
+    private final Type type;
+
+    public JobChangedEvent(Long jobId, Type type) {
+        this.jobId = jobId;
+        this.type = type;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public Type getType() {
+        return type;
+    }
+}
@@ -0,0 +1,36 @@
+package com.zidioconnect.event;
+
+import java.util.List;
+
+// Published by StudentProfileService after a profile is saved. Carries the matching
+// inputs so listeners don't need to reload the profile's lazy collections.
+public class StudentProfileChangedEvent {
+    private final Long profileId;
+    private final List<String> skills;
+    private final List<String> preferredJobRoles;
+    private final List<String> preferredLocations;
+
+    public StudentProfileChangedEvent(Long profileId, List<String> skills, List<String> preferredJobRoles,
+            List<String> preferredLocations) {
+        this.profileId = profileId;
+        this.skills = skills;
+        this.preferredJobRoles = preferredJobRoles;
+        this.preferredLocations = preferredLocations;
+    }
+
+    public Long getProfileId() {
+        return profileId;
+    }
+
+    public List<String> getSkills() {
+        return skills;
+    }
+
+    public List<String> getPreferredJobRoles() {
+        return preferredJobRoles;
+    }
+
+    public List<String> getPreferredLocations() {
+        return preferredLocations;
+    }
+}
@@ -0,0 +1,162 @@
+package com.zidioconnect.model;
+
+import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Columns shared by live applications and their archived copies
+@MappedSuperclass
+public abstract class AbstractApplication {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // Optimistic lock for concurrent status changes by different recruiters
+    @Version
+    @Column(nullable = false)
+    private long version;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "student_profile_id", nullable = false)
+    private StudentProfile studentProfile;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "job_id", nullable = false)
+    private RecruiterJob job;
+
+    // Document references (resume, marksheet, certificates)
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "resume_id")
+    private StudentDocument resume;
+
+    @OneToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "marksheet_id")
+    private StudentDocument marksheet;
+
+    @ManyToMany(fetch = FetchType.LAZY)
+    @BatchSize(size = 100)
+    @JoinTable(name = "application_certificates", joinColumns = @JoinColumn(name = "application_id"), inverseJoinColumns = @JoinColumn(name = "certificate_id"))
+    private List<StudentCertificate> certificates;
+
+    private String status = "APPLIED"; // APPLIED, REVIEWED, ACCEPTED, REJECTED, etc.
+
+    private LocalDateTime appliedAt = LocalDateTime.now();
+
+    @Column(columnDefinition = "TEXT", nullable = true)
+    private String answerForRecruiter;
+
+    // Client-supplied Idempotency-Key of the request that created this application
+    @Column(name = "idempotency_key", length = 100)
+    private String idempotencyKey;
+
+    // Fit against the job requirements (0-100), filled in asynchronously; null until scored
+    private Double fitScore;
+
+    private LocalDateTime scoredAt;
+
+    // Getters and setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public StudentProfile getStudentProfile() {
+        return studentProfile;
+    }
+
+    public void setStudentProfile(StudentProfile studentProfile) {
+        this.studentProfile = studentProfile;
+    }
+
+    public RecruiterJob getJob() {
+        return job;
+    }
+
+    public void setJob(RecruiterJob job) {
+        this.job = job;
+    }
+
+    public StudentDocument getResume() {
+        return resume;
+    }
+
+    public void setResume(StudentDocument resume) {
+        this.resume = resume;
+    }
+
+    public StudentDocument getMarksheet() {
+        return marksheet;
+    }
+
+    public void setMarksheet(StudentDocument marksheet) {
+        this.marksheet = marksheet;
+    }
+
+    public List<StudentCertificate> getCertificates() {
+        return certificates;
+    }
+
+    public void setCertificates(List<StudentCertificate> certificates) {
+        this.certificates = certificates;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public LocalDateTime getAppliedAt() {
+        return appliedAt;
+    }
+
+    public void setAppliedAt(LocalDateTime appliedAt) {
+        this.appliedAt = appliedAt;
+    }
+
+    public String getAnswerForRecruiter() {
+        return answerForRecruiter;
+    }
+
+    public void setAnswerForRecruiter(String answerForRecruiter) {
+        this.answerForRecruiter = answerForRecruiter;
+    }
+
+    public String getIdempotencyKey() {
+        return idempotencyKey;
+    }
+
+    public void setIdempotencyKey(String idempotencyKey) {
+        this.idempotencyKey = idempotencyKey;
+    }
+
+    public Double getFitScore() {
+        return fitScore;
+    }
+
+    public void setFitScore(Double fitScore) {
+        this.fitScore = fitScore;
+    }
+
+    public LocalDateTime getScoredAt() {
+        return scoredAt;
+    }
+
+    public void setScoredAt(LocalDateTime scoredAt) {
+        this.scoredAt = scoredAt;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+}
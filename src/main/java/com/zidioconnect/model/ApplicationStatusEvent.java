@@ -0,0 +1,103 @@
+package com.zidioconnect.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Append-only record of an application's status transitions; rows are never updated
+@Entity
+@Table(name = "application_events", indexes = {
+        @Index(name = "idx_application_events_job_created", columnList = "jobId, createdAt"),
+        @Index(name = "idx_application_events_application_created", columnList = "applicationId, createdAt")
+})
+public class ApplicationStatusEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false, updatable = false)
+    private Long applicationId;
+
+    @Column(nullable = false, updatable = false)
+    private Long jobId;
+
+    @Column(updatable = false)
+    private String fromStatus; // null for the initial APPLIED event
+
+    @Column(nullable = false, updatable = false)
+    private String toStatus;
+
+    @Column(updatable = false)
+    private String changedBy; // email of the acting user
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    public ApplicationStatusEvent() {
+    }
+
+    public ApplicationStatusEvent(Long applicationId, Long jobId, String fromStatus, String toStatus,
+            String changedBy) {
+        this.applicationId = applicationId;
+        this.jobId = jobId;
+        this.fromStatus = fromStatus;
+        this.toStatus = toStatus;
+        this.changedBy = changedBy;
+    }
+
+    // Getters and setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getApplicationId() {
+        return applicationId;
+    }
+
+    public void setApplicationId(Long applicationId) {
+        this.applicationId = applicationId;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getFromStatus() {
+        return fromStatus;
+    }
+
+    public void setFromStatus(String fromStatus) {
+        this.fromStatus = fromStatus;
+    }
+
+    public String getToStatus() {
+        return toStatus;
+    }
+
+    public void setToStatus(String toStatus) {
+        this.toStatus = toStatus;
+    }
+
+    public String getChangedBy() {
+        return changedBy;
+    }
+
+    public void setChangedBy(String changedBy) {
+        this.changedBy = changedBy;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,22 @@
+package com.zidioconnect.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Application of a job closed long enough ago to leave the hot table; read-only
+@Entity
+@Table(name = "applications_archive")
+@AssociationOverride(name = "certificates", joinTable = @JoinTable(name = "application_certificates_archive",
+        joinColumns = @JoinColumn(name = "application_id"), inverseJoinColumns = @JoinColumn(name = "certificate_id")))
+public class ArchivedApplication extends AbstractApplication {
+    @Column(nullable = false)
+    private LocalDateTime archivedAt;
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+
+    public void setArchivedAt(LocalDateTime archivedAt) {
+        this.archivedAt = archivedAt;
+    }
+}
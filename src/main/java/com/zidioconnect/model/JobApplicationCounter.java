@@ -0,0 +1,72 @@
+package com.zidioconnect.model;
+
+import jakarta.persistence.*;
+import java.io.Serializable;
+import java.util.Objects;
+
+// Number of applications per (job, status), kept in step with every application write
+@Entity
+@Table(name = "job_application_counters")
+@IdClass(JobApplicationCounter.Key.class)
+public class JobApplicationCounter {
+    @Id
+    private Long jobId;
+
+    @Id
+    @Column(length = 50)
+    private String status;
+
+    @Column(nullable = false)
+    private long applicationCount;
+
+    public static class Key implements Serializable {
+        private Long jobId;
+        private String status;
+
+        public Key() {
+        }
+
+        public Key(Long jobId, String status) {
+            this.jobId = jobId;
+            this.status = status;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) return true;
+            if (!(o instanceof Key)) return false;
+            Key other = (Key) o;
+            return Objects.equals(jobId, other.jobId) && Objects.equals(status, other.status);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(jobId, status);
+        }
+    }
+
+    // Getters and setters
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public long getApplicationCount() {
+        return applicationCount;
+    }
+
+    public void setApplicationCount(long applicationCount) {
+        this.applicationCount = applicationCount;
+    }
+}
@@ -0,0 +1,53 @@
+package com.zidioconnect.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Persisted view/apply-click totals per job; written only by JobStatsService's batched flush
+@Entity
+@Table(name = "job_stats")
+public class JobStats {
+    @Id
+    private Long jobId;
+
+    @Column(nullable = false)
+    private long viewCount;
+
+    @Column(nullable = false)
+    private long applyClickCount;
+
+    private LocalDateTime updatedAt;
+
+    // Getters and setters
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    public long getViewCount() {
+        return viewCount;
+    }
+
+    public void setViewCount(long viewCount) {
+        this.viewCount = viewCount;
+    }
+
+    public long getApplyClickCount() {
+        return applyClickCount;
+    }
+
+    public void setApplyClickCount(long applyClickCount) {
+        this.applyClickCount = applyClickCount;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+}
@@ -0,0 +1,66 @@
+package com.zidioconnect.model;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+// Records that a job left the approved feed, so delta-sync clients can drop it
+@Entity
+@Table(name = "job_tombstones", indexes = {
+        @Index(name = "idx_job_tombstones_removed", columnList = "removedAt, id"),
+        @Index(name = "idx_job_tombstones_job", columnList = "jobId")
+})
+public class JobTombstone {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long jobId;
+
+    @Column(nullable = false)
+    private String reason; // DELETED or the new approval status
+
+    @Column(nullable = false)
+    private LocalDateTime removedAt = LocalDateTime.now();
+
+    public JobTombstone() {
+    }
+
+    public JobTombstone(Long jobId, String reason) {
+        this.jobId = jobId;
+        this.reason = reason;
+    }
+
+    // Getters and setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public void setJobId(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    public String getReason() {
+        return reason;
+    }
+
+    public void setReason(String reason) {
+        this.reason = reason;
+    }
+
+    public LocalDateTime getRemovedAt() {
+        return removedAt;
+    }
+
+    public void setRemovedAt(LocalDateTime removedAt) {
+        this.removedAt = removedAt;
+    }
+}
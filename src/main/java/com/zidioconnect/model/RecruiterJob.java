@@ -6,12 +6,22 @@ import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "recruiter_jobs")
+@Table(name = "recruiter_jobs", indexes = {
+        @Index(name = "idx_recruiter_jobs_status_created", columnList = "adminApprovalStatus, createdAt, id"),
+        @Index(name = "idx_recruiter_jobs_created", columnList = "createdAt, id"),
+        @Index(name = "idx_recruiter_jobs_updated", columnList = "updatedAt, id"),
+        @Index(name = "idx_recruiter_jobs_stipend", columnList = "adminApprovalStatus, stipendCurrency, stipendMinMonthly, stipendMaxMonthly")
+})
 public class RecruiterJob {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // Bumped on every write; an edit or approval sent with an older value is rejected
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "recruiter_id", nullable = false)
     @JsonIgnore
@@ -22,6 +32,12 @@ public class RecruiterJob {
     private String location;
     private String jobType;
     private String stipendSalary;
+
+    // Normalised from stipendSalary by StipendParser on every save
+    private Long stipendMinMonthly;
+    private Long stipendMaxMonthly;
+    private String stipendCurrency;
+    private String stipendPeriod;
     private String duration;
 
     @Column(columnDefinition = "TEXT")
@@ -40,6 +56,29 @@ public class RecruiterJob {
     private LocalDateTime createdAt = LocalDateTime.now();
     private LocalDateTime updatedAt = LocalDateTime.now();
 
+    // Optional cap on applications; null means unlimited
+    private Integer maxApplicants;
+
+    // Maintained only by the conditional increment in RecruiterJobRepository, never by entity saves
+    @Column(insertable = false, updatable = false, columnDefinition = "int not null default 0")
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private int applicantCount;
+
+    // Set by closeJob; applications move to the archive once this is old enough
+    @Column(insertable = false, updatable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime closedAt;
+
+    // Non-null once every application of the job lives in applications_archive
+    @Column(insertable = false, updatable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime applicationsArchivedAt;
+
+    // Soft-delete marker; the row and its applications are purged in the background
+    @Column(insertable = false, updatable = false)
+    @JsonProperty(access = JsonProperty.Access.READ_ONLY)
+    private LocalDateTime deletedAt;
+
     // Getters and setters
     public Long getId() {
         return id;
@@ -97,6 +136,38 @@ public class RecruiterJob {
         this.stipendSalary = stipendSalary;
     }
 
+    public Long getStipendMinMonthly() {
+        return stipendMinMonthly;
+    }
+
+    public void setStipendMinMonthly(Long stipendMinMonthly) {
+        this.stipendMinMonthly = stipendMinMonthly;
+    }
+
+    public Long getStipendMaxMonthly() {
+        return stipendMaxMonthly;
+    }
+
+    public void setStipendMaxMonthly(Long stipendMaxMonthly) {
+        this.stipendMaxMonthly = stipendMaxMonthly;
+    }
+
+    public String getStipendCurrency() {
+        return stipendCurrency;
+    }
+
+    public void setStipendCurrency(String stipendCurrency) {
+        this.stipendCurrency = stipendCurrency;
+    }
+
+    public String getStipendPeriod() {
+        return stipendPeriod;
+    }
+
+    public void setStipendPeriod(String stipendPeriod) {
+        this.stipendPeriod = stipendPeriod;
+    }
+
     public String getDuration() {
         return duration;
     }
@@ -152,4 +223,52 @@ public class RecruiterJob {
     public void setUpdatedAt(LocalDateTime updatedAt) {
         this.updatedAt = updatedAt;
     }
-}
\ No newline at end of file
+
+    public Integer getMaxApplicants() {
+        return maxApplicants;
+    }
+
+    public void setMaxApplicants(Integer maxApplicants) {
+        this.maxApplicants = maxApplicants;
+    }
+
+    public int getApplicantCount() {
+        return applicantCount;
+    }
+
+    public void setApplicantCount(int applicantCount) {
+        this.applicantCount = applicantCount;
+    }
+
+    public LocalDateTime getClosedAt() {
+        return closedAt;
+    }
+
+    public void setClosedAt(LocalDateTime closedAt) {
+        this.closedAt = closedAt;
+    }
+
+    public LocalDateTime getApplicationsArchivedAt() {
+        return applicationsArchivedAt;
+    }
+
+    public void setApplicationsArchivedAt(LocalDateTime applicationsArchivedAt) {
+        this.applicationsArchivedAt = applicationsArchivedAt;
+    }
+
+    public LocalDateTime getDeletedAt() {
+        return deletedAt;
+    }
+
+    public void setDeletedAt(LocalDateTime deletedAt) {
+        this.deletedAt = deletedAt;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+}
@@ -1,15 +1,23 @@
 package com.zidioconnect.model;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.BatchSize;
 import java.util.*;
 
 @Entity
-@Table(name = "student_profile")
+@Table(name = "student_profile", indexes = {
+        @Index(name = "idx_student_profile_gpa_normalized", columnList = "gpaNormalized")
+})
 public class StudentProfile {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
 
+    // Guards against double-submitted or concurrent profile edits
+    @Version
+    @Column(nullable = false)
+    private long version;
+
     @OneToOne
     @JoinColumn(name = "student_id", unique = true, nullable = false)
     private Student student;
@@ -29,6 +37,9 @@ public class StudentProfile {
     private String yearOfStudy;
     private String gpa;
 
+    // gpa on a 0-1 scale, set by GpaNormalizer on every save so applicants sort numerically
+    private Double gpaNormalized;
+
     @Column(columnDefinition = "TEXT")
     private String academicAchievements;
 
@@ -46,6 +57,7 @@ public class StudentProfile {
 
     // Collections
     @OneToMany(mappedBy = "profile", cascade = CascadeType.ALL, orphanRemoval = true)
+    @BatchSize(size = 100) // applicant pages initialise every profile's skills in one IN query
     private List<StudentProfileSkill> skills = new ArrayList<>();
 
     @OneToMany(mappedBy = "profile", cascade = CascadeType.ALL, orphanRemoval = true)
@@ -138,6 +150,14 @@ public class StudentProfile {
         this.gpa = gpa;
     }
 
+    public Double getGpaNormalized() {
+        return gpaNormalized;
+    }
+
+    public void setGpaNormalized(Double gpaNormalized) {
+        this.gpaNormalized = gpaNormalized;
+    }
+
     public String getAcademicAchievements() {
         return academicAchievements;
     }
@@ -233,4 +253,12 @@ public class StudentProfile {
     public void setPreferredLocations(List<StudentProfileLocation> preferredLocations) {
         this.preferredLocations = preferredLocations;
     }
-}
\ No newline at end of file
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+}
@@ -3,11 +3,64 @@ package com.zidioconnect.repository;
 import com.zidioconnect.model.Application;
 import com.zidioconnect.model.StudentProfile;
 import com.zidioconnect.model.RecruiterJob;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface ApplicationRepository extends JpaRepository<Application, Long> {
     List<Application> findByStudentProfile(StudentProfile studentProfile);
 
     List<Application> findByJob(RecruiterJob job);
-}
\ No newline at end of file
+
+    boolean existsByJob_Id(Long jobId);
+
+    // Applicant pages: to-one associations are fetched in the page query itself
+    @EntityGraph(attributePaths = { "studentProfile", "job", "resume", "marksheet" })
+    Page<Application> findByJob_Id(Long jobId, Pageable pageable);
+
+    @EntityGraph(attributePaths = { "studentProfile", "job", "resume", "marksheet" })
+    Page<Application> findByJob_IdAndStatus(Long jobId, String status, Pageable pageable);
+
+    Optional<Application> findByStudentProfile_IdAndJob_Id(Long studentProfileId, Long jobId);
+
+    Optional<Application> findByStudentProfile_IdAndIdempotencyKey(Long studentProfileId, String idempotencyKey);
+
+    // (applicationId, owning recruiterId, current status, jobId) for an ownership check in one round-trip.
+    // Locks the application rows in id order, so the status read stays current until the caller commits.
+    @Query(value = "SELECT a.id, j.recruiter_id, a.status, a.job_id FROM applications a"
+            + " JOIN recruiter_jobs j ON j.id = a.job_id WHERE a.id IN :ids ORDER BY a.id FOR UPDATE OF a",
+            nativeQuery = true)
+    List<Object[]> lockOwnershipByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("UPDATE Application a SET a.status = :status, a.version = a.version + 1 WHERE a.id IN :ids")
+    int updateStatusByIdIn(@Param("ids") Collection<Long> ids, @Param("status") String status);
+
+    @Query("SELECT a.id FROM Application a WHERE a.fitScore IS NULL ORDER BY a.id")
+    List<Long> findUnscoredIds(Pageable pageable);
+
+    // Only writes if the job is still at the version the score was computed from
+    @Modifying
+    @Query("UPDATE Application a SET a.fitScore = :score, a.scoredAt = :scoredAt WHERE a.id = :id"
+            + " AND EXISTS (SELECT 1 FROM RecruiterJob j WHERE j.id = a.job.id AND j.version = :jobVersion)")
+    int updateFitScore(@Param("id") Long id, @Param("score") Double score, @Param("scoredAt") LocalDateTime scoredAt,
+            @Param("jobVersion") long jobVersion);
+
+    @Modifying
+    @Query("UPDATE Application a SET a.fitScore = NULL, a.scoredAt = NULL WHERE a.job.id = :jobId")
+    int clearFitScoresForJob(@Param("jobId") Long jobId);
+
+    // (applicationId, firstName, lastName, resume fileName, resume url, marksheet fileName, marksheet url)
+    @Query("SELECT a.id, p.firstName, p.lastName, r.fileName, r.url, m.fileName, m.url FROM Application a"
+            + " JOIN a.studentProfile p LEFT JOIN a.resume r LEFT JOIN a.marksheet m"
+            + " WHERE a.job.id = :jobId ORDER BY a.id")
+    List<Object[]> findDocumentLinksByJobId(@Param("jobId") Long jobId);
+}
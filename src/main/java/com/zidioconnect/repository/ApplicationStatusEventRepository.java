@@ -0,0 +1,18 @@
+package com.zidioconnect.repository;
+
+import com.zidioconnect.model.ApplicationStatusEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ApplicationStatusEventRepository extends JpaRepository<ApplicationStatusEvent, Long> {
+    List<ApplicationStatusEvent> findByApplicationIdOrderByCreatedAtAscIdAsc(Long applicationId);
+
+    // (status, distinct applications that reached it); served from the (job_id, created_at) index
+    @Query("SELECT e.toStatus, COUNT(DISTINCT e.applicationId) FROM ApplicationStatusEvent e"
+            + " WHERE e.jobId = :jobId AND e.createdAt >= :from AND e.createdAt < :to GROUP BY e.toStatus")
+    List<Object[]> countReachedByStatus(@Param("jobId") Long jobId, @Param("from") LocalDateTime from,
+            @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,28 @@
+package com.zidioconnect.repository;
+
+import com.zidioconnect.model.ArchivedApplication;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.List;
+
+public interface ArchivedApplicationRepository extends JpaRepository<ArchivedApplication, Long> {
+    List<ArchivedApplication> findByStudentProfile_Id(Long studentProfileId);
+
+    boolean existsByJob_Id(Long jobId);
+
+    @EntityGraph(attributePaths = { "studentProfile", "job", "resume", "marksheet" })
+    Page<ArchivedApplication> findByJob_Id(Long jobId, Pageable pageable);
+
+    @EntityGraph(attributePaths = { "studentProfile", "job", "resume", "marksheet" })
+    Page<ArchivedApplication> findByJob_IdAndStatus(Long jobId, String status, Pageable pageable);
+
+    // Same shape as ApplicationRepository.findDocumentLinksByJobId
+    @Query("SELECT a.id, p.firstName, p.lastName, r.fileName, r.url, m.fileName, m.url FROM ArchivedApplication a"
+            + " JOIN a.studentProfile p LEFT JOIN a.resume r LEFT JOIN a.marksheet m"
+            + " WHERE a.job.id = :jobId ORDER BY a.id")
+    List<Object[]> findDocumentLinksByJobId(@Param("jobId") Long jobId);
+}
@@ -0,0 +1,33 @@
+package com.zidioconnect.repository;
+
+import com.zidioconnect.model.JobApplicationCounter;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.List;
+
+public interface JobApplicationCounterRepository
+        extends JpaRepository<JobApplicationCounter, JobApplicationCounter.Key> {
+
+    // Atomic upsert; a negative delta moves applications out of a status
+    @Modifying
+    @Query(value = "INSERT INTO job_application_counters (job_id, status, application_count)"
+            + " VALUES (:jobId, :status, :delta)"
+            + " ON DUPLICATE KEY UPDATE application_count = application_count + VALUES(application_count)",
+            nativeQuery = true)
+    int add(@Param("jobId") Long jobId, @Param("status") String status, @Param("delta") long delta);
+
+    // Rebuilds the counters from the applications table; only used while the table is empty
+    @Modifying
+    @Query(value = "INSERT INTO job_application_counters (job_id, status, application_count)"
+            + " SELECT job_id, status, COUNT(*) FROM applications GROUP BY job_id, status", nativeQuery = true)
+    int backfill();
+
+    // (jobId, title, adminApprovalStatus, status, count) for every job of a recruiter; jobs with no
+    // applications come back once with a null status
+    @Query("SELECT j.id, j.title, j.adminApprovalStatus, c.status, c.applicationCount FROM RecruiterJob j"
+            + " LEFT JOIN JobApplicationCounter c ON c.jobId = j.id"
+            + " WHERE j.recruiter.id = :recruiterId AND j.deletedAt IS NULL ORDER BY j.createdAt DESC, j.id DESC")
+    List<Object[]> findDashboardRows(@Param("recruiterId") Long recruiterId);
+}
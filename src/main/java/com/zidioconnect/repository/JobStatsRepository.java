@@ -0,0 +1,7 @@
+package com.zidioconnect.repository;
+
+import com.zidioconnect.model.JobStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface JobStatsRepository extends JpaRepository<JobStats, Long> {
+}
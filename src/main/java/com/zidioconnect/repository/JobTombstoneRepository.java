@@ -0,0 +1,17 @@
+package com.zidioconnect.repository;
+
+import com.zidioconnect.model.JobTombstone;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface JobTombstoneRepository extends JpaRepository<JobTombstone, Long> {
+    // Keyset over (removedAt, id), bounded by :upTo like RecruiterJobRepository.findApprovedUpdatedAfter
+    @Query("SELECT t FROM JobTombstone t WHERE (t.removedAt > :removedAt OR (t.removedAt = :removedAt AND t.id > :id))"
+            + " AND t.removedAt <= :upTo ORDER BY t.removedAt, t.id")
+    List<JobTombstone> findRemovedAfter(@Param("removedAt") LocalDateTime removedAt, @Param("id") Long id,
+            @Param("upTo") LocalDateTime upTo, Pageable pageable);
+}
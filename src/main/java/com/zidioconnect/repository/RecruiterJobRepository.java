@@ -1,11 +1,121 @@
 package com.zidioconnect.repository;
 
+import com.zidioconnect.dto.JobWithCompanyDTO;
 import com.zidioconnect.model.RecruiterJob;
 import com.zidioconnect.model.Recruiter;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 public interface RecruiterJobRepository extends JpaRepository<RecruiterJob, Long> {
-    List<RecruiterJob> findByRecruiter(Recruiter recruiter);
-    List<RecruiterJob> findByAdminApprovalStatus(String adminApprovalStatus);
-}
\ No newline at end of file
+    // Job columns plus the recruiter's company name/logo, joined in a single statement
+    String SELECT_WITH_COMPANY = "SELECT new com.zidioconnect.dto.JobWithCompanyDTO(j.id, j.title, j.department,"
+            + " j.location, j.jobType, j.stipendSalary, j.duration, j.description, j.requirements,"
+            + " j.adminApprovalStatus, r.companyLogo, r.company, j.questionForApplicant, j.createdAt,"
+            + " j.updatedAt)"
+            + " FROM RecruiterJob j JOIN j.recruiter r";
+
+    List<RecruiterJob> findByRecruiterAndDeletedAtIsNull(Recruiter recruiter);
+    List<RecruiterJob> findByDeletedAtIsNull();
+
+    @Query(SELECT_WITH_COMPANY + " WHERE j.deletedAt IS NULL")
+    List<JobWithCompanyDTO> findAllWithCompany();
+
+    @Query(SELECT_WITH_COMPANY + " WHERE j.adminApprovalStatus = :status AND j.deletedAt IS NULL")
+    List<JobWithCompanyDTO> findWithCompanyByStatus(@Param("status") String status);
+
+    @Query(SELECT_WITH_COMPANY + " WHERE j.id IN :ids")
+    List<JobWithCompanyDTO> findWithCompanyByIdIn(@Param("ids") Collection<Long> ids);
+
+    // Keyset pagination over (createdAt DESC, id DESC); the page size comes from the Pageable
+    @Query(SELECT_WITH_COMPANY + " WHERE j.adminApprovalStatus = :status AND j.deletedAt IS NULL"
+            + " ORDER BY j.createdAt DESC, j.id DESC")
+    List<JobWithCompanyDTO> findFirstPageByStatus(@Param("status") String status, Pageable pageable);
+
+    @Query(SELECT_WITH_COMPANY + " WHERE j.adminApprovalStatus = :status AND j.deletedAt IS NULL"
+            + " AND (j.createdAt < :createdAt OR (j.createdAt = :createdAt AND j.id < :id))"
+            + " ORDER BY j.createdAt DESC, j.id DESC")
+    List<JobWithCompanyDTO> findPageByStatusAfter(@Param("status") String status,
+            @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query(SELECT_WITH_COMPANY + " WHERE j.deletedAt IS NULL ORDER BY j.createdAt DESC, j.id DESC")
+    List<JobWithCompanyDTO> findFirstPage(Pageable pageable);
+
+    @Query(SELECT_WITH_COMPANY + " WHERE j.deletedAt IS NULL"
+            + " AND (j.createdAt < :createdAt OR (j.createdAt = :createdAt AND j.id < :id))"
+            + " ORDER BY j.createdAt DESC, j.id DESC")
+    List<JobWithCompanyDTO> findPageAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+            Pageable pageable);
+
+    // Jobs whose monthly stipend range overlaps [min, max]; served from idx_recruiter_jobs_stipend
+    @Query(SELECT_WITH_COMPANY + " WHERE j.adminApprovalStatus = 'APPROVED' AND j.deletedAt IS NULL"
+            + " AND j.stipendCurrency = :currency"
+            + " AND j.stipendMinMonthly <= :max AND j.stipendMaxMonthly >= :min"
+            + " ORDER BY j.stipendMinMonthly DESC, j.id DESC")
+    List<JobWithCompanyDTO> findApprovedByStipendRange(@Param("currency") String currency, @Param("min") Long min,
+            @Param("max") Long max, Pageable pageable);
+
+    // Keyset over (updatedAt, id) for delta sync; rows newer than :upTo are left for a later call
+    @Query(SELECT_WITH_COMPANY + " WHERE j.adminApprovalStatus = 'APPROVED' AND j.deletedAt IS NULL"
+            + " AND (j.updatedAt > :updatedAt OR (j.updatedAt = :updatedAt AND j.id > :id))"
+            + " AND j.updatedAt <= :upTo ORDER BY j.updatedAt, j.id")
+    List<JobWithCompanyDTO> findApprovedUpdatedAfter(@Param("updatedAt") LocalDateTime updatedAt,
+            @Param("id") Long id, @Param("upTo") LocalDateTime upTo, Pageable pageable);
+
+    @Query("SELECT j FROM RecruiterJob j WHERE j.id > :afterId AND j.stipendSalary IS NOT NULL"
+            + " AND j.stipendPeriod IS NULL ORDER BY j.id")
+    List<RecruiterJob> findStipendBackfillBatch(@Param("afterId") Long afterId, Pageable pageable);
+
+    // Takes an applicant slot; returns 0 when the job is at its cap or closed. The row lock serialises
+    // concurrent applies and a concurrent close.
+    @Modifying
+    @Query(value = "UPDATE recruiter_jobs SET applicant_count = applicant_count + 1 WHERE id = :jobId"
+            + " AND closed_at IS NULL AND (max_applicants IS NULL OR applicant_count < max_applicants)",
+            nativeQuery = true)
+    int tryIncrementApplicantCount(@Param("jobId") Long jobId);
+
+    // Jobs that have applications but a zero applicant_count, i.e. rows that predate the column
+    @Query(value = "SELECT j.id FROM recruiter_jobs j WHERE j.id > :afterId AND j.applicant_count = 0"
+            + " AND (EXISTS (SELECT 1 FROM applications a WHERE a.job_id = j.id)"
+            + " OR EXISTS (SELECT 1 FROM applications_archive a WHERE a.job_id = j.id))"
+            + " ORDER BY j.id LIMIT :limit", nativeQuery = true)
+    List<Long> findIdsMissingApplicantCount(@Param("afterId") Long afterId, @Param("limit") int limit);
+
+    // Live plus archived applications, so archived jobs keep their count; rows an apply has
+    // incremented in the meantime are left alone
+    @Modifying
+    @Query(value = "UPDATE recruiter_jobs j SET j.applicant_count ="
+            + " (SELECT COUNT(*) FROM applications a WHERE a.job_id = j.id)"
+            + " + (SELECT COUNT(*) FROM applications_archive a WHERE a.job_id = j.id)"
+            + " WHERE j.id IN :ids AND j.applicant_count = 0", nativeQuery = true)
+    int reconcileApplicantCounts(@Param("ids") Collection<Long> ids);
+
+    // closed_at is not entity-writable, so closing goes through SQL; the version bump fails stale edits
+    @Modifying
+    @Query(value = "UPDATE recruiter_jobs SET admin_approval_status = 'CLOSED', closed_at = :now, updated_at = :now,"
+            + " version = version + 1 WHERE id = :jobId AND closed_at IS NULL", nativeQuery = true)
+    int close(@Param("jobId") Long jobId, @Param("now") LocalDateTime now);
+
+    @Query("SELECT j.id FROM RecruiterJob j WHERE j.closedAt < :cutoff AND j.applicationsArchivedAt IS NULL"
+            + " AND j.deletedAt IS NULL ORDER BY j.id")
+    List<Long> findIdsToArchive(@Param("cutoff") LocalDateTime cutoff);
+
+    @Modifying
+    @Query(value = "UPDATE recruiter_jobs SET applications_archived_at = :now WHERE id = :jobId", nativeQuery = true)
+    int markApplicationsArchived(@Param("jobId") Long jobId, @Param("now") LocalDateTime now);
+
+    // Hides the job everywhere at once; closed_at also stops the apply-slot increment
+    @Modifying
+    @Query(value = "UPDATE recruiter_jobs SET admin_approval_status = 'DELETED', deleted_at = :now,"
+            + " closed_at = COALESCE(closed_at, :now), updated_at = :now, version = version + 1"
+            + " WHERE id = :jobId AND deleted_at IS NULL", nativeQuery = true)
+    int softDelete(@Param("jobId") Long jobId, @Param("now") LocalDateTime now);
+
+    @Query("SELECT j.id FROM RecruiterJob j WHERE j.deletedAt IS NOT NULL ORDER BY j.deletedAt, j.id")
+    List<Long> findIdsToPurge();
+}
@@ -2,6 +2,10 @@ package com.zidioconnect.repository;
 
 import com.zidioconnect.model.StudentProfile;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import java.util.List;
 import java.util.Optional;
 
 public interface StudentProfileRepository extends JpaRepository<StudentProfile, Long> {
@@ -10,4 +14,12 @@ public interface StudentProfileRepository extends JpaRepository<StudentProfile,
     Optional<StudentProfile> findByEmail(String email);
 
     Optional<StudentProfile> findByStudent_Email(String email);
-}
\ No newline at end of file
+
+    // (profileId, skill) rows for every profile, read in one statement
+    @Query("SELECT s.profile.id, s.skill FROM StudentProfileSkill s")
+    List<Object[]> findAllSkillPairs();
+
+    @Query("SELECT p FROM StudentProfile p WHERE p.id > :afterId AND p.gpa IS NOT NULL AND TRIM(p.gpa) <> ''"
+            + " AND p.gpaNormalized IS NULL ORDER BY p.id")
+    List<StudentProfile> findGpaBackfillBatch(@Param("afterId") Long afterId, Pageable pageable);
+}
@@ -0,0 +1,191 @@
+package com.zidioconnect.service;
+
+import com.zidioconnect.event.JobChangedEvent;
+import com.zidioconnect.model.Application;
+import com.zidioconnect.model.StudentCertificate;
+import com.zidioconnect.model.StudentDocument;
+import com.zidioconnect.model.StudentProfile;
+import com.zidioconnect.model.StudentProfileSkill;
+import com.zidioconnect.repository.ApplicationRepository;
+import com.zidioconnect.util.GpaNormalizer;
+import com.zidioconnect.util.TextAnalyzer;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Scores applications against the job's requirements in the background and stores
+ * the result on the application, so recruiters can sort by fit without scoring at
+ * read time. Work runs on a small bounded pool; when the queue is full new work is
+ * dropped and the sweeper picks up anything still unscored later.
+ */
+@Service
+public class ApplicantScoringService {
+    private static final Logger logger = LoggerFactory.getLogger(ApplicantScoringService.class);
+
+    private static final double SKILL_WEIGHT = 0.5;
+    private static final double GPA_WEIGHT = 0.2;
+    private static final double COURSE_WEIGHT = 0.15;
+    private static final double DOCUMENT_WEIGHT = 0.15;
+    // Matching this many skills earns the full skill component
+    private static final int SKILL_SATURATION = 5;
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${jobs.scoring.sweep-batch-size:200}")
+    private int sweepBatchSize;
+
+    private final ThreadPoolExecutor executor;
+    // Ids queued or running, so the sweeper does not queue the same application twice
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+
+    public ApplicantScoringService(@Value("${jobs.scoring.workers:2}") int workers,
+            @Value("${jobs.scoring.queue-capacity:500}") int queueCapacity) {
+        AtomicInteger threadCount = new AtomicInteger();
+        executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), r -> {
+                    Thread thread = new Thread(r, "applicant-scoring-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * Queues an application for scoring. Returns false when the queue is full;
+     * the application stays unscored and the sweeper retries it.
+     */
+    public boolean enqueue(Long applicationId) {
+        if (!pending.add(applicationId)) {
+            return true;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    score(applicationId);
+                } catch (Exception e) {
+                    logger.warn("Scoring application {} failed", applicationId, e);
+                } finally {
+                    pending.remove(applicationId);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException e) {
+            pending.remove(applicationId);
+            return false;
+        }
+    }
+
+    // Picks up applications whose scoring was dropped, failed or invalidated by a job edit
+    @Scheduled(fixedDelayString = "${jobs.scoring.sweep-interval-ms:60000}")
+    public void sweepUnscored() {
+        List<Long> ids = applicationRepository.findUnscoredIds(PageRequest.of(0, sweepBatchSize));
+        int queued = 0;
+        for (Long id : ids) {
+            if (!enqueue(id)) {
+                break;
+            }
+            queued++;
+        }
+        if (queued > 0) {
+            logger.debug("Queued {} unscored applications", queued);
+        }
+    }
+
+    // Requirements may have changed, so the job's scores are cleared for the sweeper to redo
+    @EventListener
+    public void onJobChanged(JobChangedEvent event) {
+        if (event.getType() != JobChangedEvent.Type.SAVED) {
+            return;
+        }
+        Integer cleared = transactionTemplate
+                .execute(status -> applicationRepository.clearFitScoresForJob(event.getJobId()));
+        if (cleared != null && cleared > 0) {
+            logger.debug("Cleared {} fit scores for job {}", cleared, event.getJobId());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private void score(Long applicationId) {
+        transactionTemplate.executeWithoutResult(status -> {
+            Application application = applicationRepository.findById(applicationId).orElse(null);
+            if (application == null) {
+                return;
+            }
+            // A job edit while this runs clears the job's scores; a score computed from the
+            // old requirements must not land after that clear, so the write checks the version
+            long jobVersion = application.getJob().getVersion();
+            double score = computeScore(application);
+            if (applicationRepository.updateFitScore(applicationId, score, LocalDateTime.now(), jobVersion) == 0) {
+                logger.debug("Job changed while scoring application {}; left for the sweeper", applicationId);
+            }
+        });
+    }
+
+    static double computeScore(Application application) {
+        StudentProfile profile = application.getStudentProfile();
+        Set<String> requirementTerms = new HashSet<>(TextAnalyzer.analyze(application.getJob().getRequirements()));
+        requirementTerms.addAll(TextAnalyzer.analyze(application.getJob().getTitle()));
+
+        int matchedSkills = 0;
+        for (StudentProfileSkill skill : profile.getSkills()) {
+            List<String> terms = TextAnalyzer.analyze(skill.getSkill());
+            if (!terms.isEmpty() && requirementTerms.containsAll(terms)) {
+                matchedSkills++;
+            }
+        }
+        double skillScore = Math.min(1.0, matchedSkills / (double) SKILL_SATURATION);
+
+        List<String> courseTerms = TextAnalyzer.analyze(profile.getCourse());
+        double courseScore = courseTerms.stream().anyMatch(requirementTerms::contains) ? 1.0 : 0.0;
+
+        double documentScore = 0;
+        if (isApproved(application.getResume())) {
+            documentScore += 0.5;
+        }
+        if (isApproved(application.getMarksheet())) {
+            documentScore += 0.3;
+        }
+        List<StudentCertificate> certificates = application.getCertificates();
+        if (certificates != null && certificates.stream().anyMatch(c -> "APPROVED".equals(c.getStatus()))) {
+            documentScore += 0.2;
+        }
+
+        double score = SKILL_WEIGHT * skillScore + GPA_WEIGHT * gpa(profile)
+                + COURSE_WEIGHT * courseScore + DOCUMENT_WEIGHT * documentScore;
+        return Math.round(score * 1000) / 10.0; // 0-100, one decimal
+    }
+
+    private static double gpa(StudentProfile profile) {
+        Double gpa = GpaNormalizer.normalize(profile.getGpa());
+        return gpa != null ? gpa : 0;
+    }
+
+    private static boolean isApproved(StudentDocument document) {
+        return document != null && "APPROVED".equals(document.getStatus());
+    }
+}
@@ -0,0 +1,123 @@
+package com.zidioconnect.service;
+
+import com.zidioconnect.dto.RecruiterDashboardResponse;
+import com.zidioconnect.model.ApplicationStatusEvent;
+import com.zidioconnect.repository.JobApplicationCounterRepository;
+import com.zidioconnect.repository.RecruiterJobRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Per-job application counts by status. Counters are adjusted inside the caller's
+ * transaction whenever an application is created or changes status, so the recruiter
+ * dashboard reads a few rows per job instead of counting applications.
+ */
+@Service
+public class ApplicationCounterService {
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationCounterService.class);
+
+    @Autowired
+    private JobApplicationCounterRepository counterRepository;
+    @Autowired
+    private RecruiterJobRepository recruiterJobRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${jobs.applicant-count.reconcile-batch-size:500}")
+    private int reconcileBatchSize;
+
+    @Transactional
+    public void recordApplied(Long jobId, String status) {
+        counterRepository.add(jobId, status, 1);
+    }
+
+    // Applies the counter deltas for a set of status transitions
+    @Transactional
+    public void recordTransitions(List<ApplicationStatusEvent> events) {
+        // Sorted keys give concurrent bulk updates the same row lock order
+        Map<String, Map<Long, Long>> deltas = new TreeMap<>();
+        for (ApplicationStatusEvent event : events) {
+            if (event.getFromStatus() != null) {
+                deltas.computeIfAbsent(event.getFromStatus(), s -> new TreeMap<>()).merge(event.getJobId(), -1L, Long::sum);
+            }
+            deltas.computeIfAbsent(event.getToStatus(), s -> new TreeMap<>()).merge(event.getJobId(), 1L, Long::sum);
+        }
+        deltas.forEach((status, byJob) -> byJob.forEach((jobId, delta) -> {
+            if (delta != 0) {
+                counterRepository.add(jobId, status, delta);
+            }
+        }));
+    }
+
+    public RecruiterDashboardResponse getDashboard(Long recruiterId) {
+        RecruiterDashboardResponse resp = new RecruiterDashboardResponse();
+        resp.totalsByStatus = new TreeMap<>();
+        Map<Long, RecruiterDashboardResponse.JobCounts> jobs = new LinkedHashMap<>();
+        for (Object[] row : counterRepository.findDashboardRows(recruiterId)) {
+            RecruiterDashboardResponse.JobCounts job = jobs.computeIfAbsent((Long) row[0], id -> {
+                RecruiterDashboardResponse.JobCounts counts = new RecruiterDashboardResponse.JobCounts();
+                counts.jobId = id;
+                counts.title = (String) row[1];
+                counts.adminApprovalStatus = (String) row[2];
+                counts.byStatus = new TreeMap<>();
+                return counts;
+            });
+            String status = (String) row[3];
+            long count = row[4] != null ? (Long) row[4] : 0;
+            if (status == null || count == 0) {
+                continue;
+            }
+            job.byStatus.put(status, count);
+            job.totalApplications += count;
+            resp.totalsByStatus.merge(status, count, Long::sum);
+            resp.totalApplications += count;
+        }
+        resp.jobs = new ArrayList<>(jobs.values());
+        return resp;
+    }
+
+    // Builds the counters from existing applications the first time the table is used
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void backfill() {
+        if (counterRepository.count() > 0) {
+            return;
+        }
+        int rows = counterRepository.backfill();
+        if (rows > 0) {
+            logger.info("Backfilled {} job application counters", rows);
+        }
+    }
+
+    // Fills applicant_count (used for maxApplicants) for jobs that had applications before the column
+    // existed. Once they are filled nothing matches, so later boots only run the lookup.
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileApplicantCounts() {
+        int jobs = 0;
+        Long afterId = 0L;
+        List<Long> ids;
+        while (!(ids = recruiterJobRepository.findIdsMissingApplicantCount(afterId, reconcileBatchSize)).isEmpty()) {
+            List<Long> batch = ids;
+            Integer updated = transactionTemplate
+                    .execute(status -> recruiterJobRepository.reconcileApplicantCounts(batch));
+            jobs += updated != null ? updated : 0;
+            afterId = ids.get(ids.size() - 1);
+        }
+        if (jobs > 0) {
+            logger.info("Reconciled applicant counts for {} jobs", jobs);
+        }
+    }
+}
@@ -0,0 +1,181 @@
+package com.zidioconnect.service;
+
+import com.zidioconnect.repository.ApplicationRepository;
+import com.zidioconnect.repository.ArchivedApplicationRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+/**
+ * Builds a ZIP of every applicant's resume and marksheet for a job directly into the
+ * response stream. At most {@code parallelism} files are downloaded at once and each is
+ * written as soon as it arrives, so memory holds only the files currently in flight.
+ */
+@Service
+public class ApplicationDocumentBundleService {
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationDocumentBundleService.class);
+
+    @Autowired
+    private ApplicationRepository applicationRepository;
+    @Autowired
+    private ArchivedApplicationRepository archivedApplicationRepository;
+
+    @Value("${jobs.document-bundle.parallelism:4}")
+    private int parallelism;
+    @Value("${jobs.document-bundle.timeout-seconds:30}")
+    private int timeoutSeconds;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+
+    private static class BundleFile {
+        final String entryName;
+        final String url;
+
+        BundleFile(String entryName, String url) {
+            this.entryName = entryName;
+            this.url = url;
+        }
+    }
+
+    private static class Download {
+        final BundleFile file;
+        final HttpResponse<byte[]> response;
+        final Throwable error;
+
+        Download(BundleFile file, HttpResponse<byte[]> response, Throwable error) {
+            this.file = file;
+            this.response = response;
+            this.error = error;
+        }
+    }
+
+    public void writeBundle(Long jobId, boolean live, boolean archived, OutputStream out) throws IOException {
+        List<BundleFile> files = listFiles(jobId, live, archived);
+        List<String> failures = new ArrayList<>();
+        BlockingQueue<Download> finished = new LinkedBlockingQueue<>();
+        List<CompletableFuture<?>> started = new ArrayList<>();
+        ZipOutputStream zip = new ZipOutputStream(out);
+        zip.setLevel(Deflater.BEST_SPEED); // PDFs and images barely compress
+        try {
+            int next = 0;
+            int inFlight = 0;
+            while (next < files.size() || inFlight > 0) {
+                while (inFlight < parallelism && next < files.size()) {
+                    started.add(download(files.get(next++), finished));
+                    inFlight++;
+                }
+                Download download = finished.take();
+                inFlight--;
+                if (download.error != null || download.response.statusCode() / 100 != 2) {
+                    String reason = download.error != null ? download.error.toString()
+                            : "HTTP " + download.response.statusCode();
+                    failures.add(download.file.entryName + ": " + reason);
+                    continue;
+                }
+                zip.putNextEntry(new ZipEntry(download.file.entryName));
+                zip.write(download.response.body());
+                zip.closeEntry();
+            }
+            if (!failures.isEmpty()) {
+                zip.putNextEntry(new ZipEntry("MISSING.txt"));
+                zip.write(String.join("\n", failures).getBytes(StandardCharsets.UTF_8));
+                zip.closeEntry();
+            }
+            zip.finish();
+            zip.flush();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Document bundle interrupted");
+        } finally {
+            // Client disconnects leave downloads running; stop them
+            started.forEach(future -> future.cancel(true));
+        }
+        if (!failures.isEmpty()) {
+            logger.warn("Document bundle for job {} skipped {} files", jobId, failures.size());
+        }
+    }
+
+    private CompletableFuture<?> download(BundleFile file, BlockingQueue<Download> finished) {
+        HttpRequest request;
+        try {
+            URI uri = URI.create(file.url);
+            if (!"https".equalsIgnoreCase(uri.getScheme()) && !"http".equalsIgnoreCase(uri.getScheme())) {
+                throw new IllegalArgumentException("Unsupported URL scheme");
+            }
+            request = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(timeoutSeconds)).GET().build();
+        } catch (IllegalArgumentException e) {
+            finished.add(new Download(file, null, e));
+            return CompletableFuture.completedFuture(null);
+        }
+        return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofByteArray())
+                .whenComplete((response, error) -> finished.add(new Download(file, response, error)));
+    }
+
+    // One directory per applicant; names are unique because they start with the application id
+    private List<BundleFile> listFiles(Long jobId, boolean live, boolean archived) {
+        List<BundleFile> files = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        List<Object[]> rows = new ArrayList<>();
+        if (live) {
+            rows.addAll(applicationRepository.findDocumentLinksByJobId(jobId));
+        }
+        if (archived) {
+            rows.addAll(archivedApplicationRepository.findDocumentLinksByJobId(jobId));
+        }
+        for (Object[] row : rows) {
+            String folder = row[0] + "-" + sanitize(row[1] + " " + row[2]) + "/";
+            addFile(files, names, folder + "resume", (String) row[3], (String) row[4]);
+            addFile(files, names, folder + "marksheet", (String) row[5], (String) row[6]);
+        }
+        return files;
+    }
+
+    private static void addFile(List<BundleFile> files, Set<String> names, String base, String fileName, String url) {
+        if (url == null || url.isBlank()) {
+            return;
+        }
+        String name = base + extension(fileName != null ? fileName : url);
+        if (names.add(name)) {
+            files.add(new BundleFile(name, url));
+        }
+    }
+
+    private static String extension(String name) {
+        int query = name.indexOf('?');
+        String path = query >= 0 ? name.substring(0, query) : name;
+        int dot = path.lastIndexOf('.');
+        if (dot < 0 || dot < path.lastIndexOf('/') || path.length() - dot > 6) {
+            return "";
+        }
+        return sanitize(path.substring(dot));
+    }
+
+    private static String sanitize(String value) {
+        return value.replaceAll("[^A-Za-z0-9._-]+", "_");
+    }
+}
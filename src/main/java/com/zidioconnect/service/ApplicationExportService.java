@@ -0,0 +1,204 @@
+package com.zidioconnect.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zidioconnect.dto.ApplicationResponse;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Streams a job's applicants as CSV or NDJSON straight from a forward-only MySQL
+ * result set. Rows are written as they arrive, so memory stays flat and the client
+ * receives data before the query has finished.
+ */
+@Service
+public class ApplicationExportService {
+    public static final String FORMAT_CSV = "csv";
+    public static final String FORMAT_NDJSON = "ndjson";
+
+    private static final String FIELD_SEP = "\u001f";
+    private static final String ROW_SEP = "\u001e";
+
+    // Skills and certificates are folded into one row per application with GROUP_CONCAT;
+    // %1$s/%2$s are the live or archive application and certificate-link tables; a job being
+    // archived reads both with UNION ALL
+    private static final String EXPORT_SQL = "SELECT a.id, a.job_id, j.title, p.id AS profile_id, p.first_name,"
+            + " p.last_name, p.email, p.college, p.course, p.year_of_study,"
+            + " (SELECT GROUP_CONCAT(s.skill ORDER BY s.id SEPARATOR 0x1f) FROM student_profile_skill s"
+            + "  WHERE s.profile_id = p.id) AS skills,"
+            + " r.id AS resume_id, r.name AS resume_name, r.url AS resume_url, r.status AS resume_status,"
+            + " m.id AS marksheet_id, m.name AS marksheet_name, m.url AS marksheet_url, m.status AS marksheet_status,"
+            + " (SELECT GROUP_CONCAT(CONCAT_WS(0x1f, c.id, COALESCE(c.certificate_name, ''), COALESCE(c.url, ''),"
+            + "  COALESCE(c.status, '')) ORDER BY c.id SEPARATOR 0x1e) FROM %2$s ac"
+            + "  JOIN student_certificates c ON c.id = ac.certificate_id WHERE ac.application_id = a.id) AS certificates,"
+            + " a.status, a.applied_at, j.question_for_applicant, a.answer_for_recruiter, a.fit_score"
+            + " FROM %1$s a JOIN recruiter_jobs j ON j.id = a.job_id"
+            + " JOIN student_profile p ON p.id = a.student_profile_id"
+            + " LEFT JOIN student_documents r ON r.id = a.resume_id"
+            + " LEFT JOIN student_documents m ON m.id = a.marksheet_id"
+            + " WHERE a.job_id = ?";
+
+    private static final List<String> CSV_HEADER = List.of("applicationId", "jobId", "jobTitle", "studentProfileId",
+            "studentName", "studentEmail", "college", "course", "yearOfStudy", "skills", "resumeUrl", "resumeStatus",
+            "marksheetUrl", "marksheetStatus", "certificates", "status", "appliedAt", "questionForApplicant",
+            "answerForRecruiter", "fitScore");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    public void export(Long jobId, boolean live, boolean archived, String format, OutputStream out) {
+        List<String> selects = new ArrayList<>();
+        if (live) {
+            selects.add(String.format(EXPORT_SQL, "applications", "application_certificates"));
+        }
+        if (archived) {
+            selects.add(String.format(EXPORT_SQL, "applications_archive", "application_certificates_archive"));
+        }
+        String sql = String.join(" UNION ALL ", selects) + " ORDER BY id";
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        boolean csv = FORMAT_CSV.equals(format);
+        jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+            try (Statement session = connection.createStatement()) {
+                // The default 1 KB cap would truncate long skill or certificate lists
+                session.execute("SET SESSION group_concat_max_len = 1048576");
+            }
+            try (PreparedStatement statement = connection.prepareStatement(sql,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+                // Integer.MIN_VALUE makes Connector/J stream rows instead of buffering the result
+                statement.setFetchSize(Integer.MIN_VALUE);
+                for (int i = 1; i <= selects.size(); i++) {
+                    statement.setLong(i, jobId);
+                }
+                try (ResultSet rs = statement.executeQuery()) {
+                    if (csv) {
+                        writeCsvRow(writer, CSV_HEADER);
+                    }
+                    while (rs.next()) {
+                        ApplicationResponse row = toResponse(rs);
+                        if (csv) {
+                            writeCsvRow(writer, toCsvFields(row));
+                        } else {
+                            writer.write(objectMapper.writeValueAsString(row));
+                            writer.write('\n');
+                        }
+                    }
+                    writer.flush();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return null;
+        });
+    }
+
+    private static ApplicationResponse toResponse(ResultSet rs) throws SQLException {
+        ApplicationResponse resp = new ApplicationResponse();
+        resp.id = rs.getLong("id");
+        resp.jobId = rs.getLong("job_id");
+        resp.jobTitle = rs.getString("title");
+        resp.studentProfileId = rs.getLong("profile_id");
+        resp.studentName = rs.getString("first_name") + " " + rs.getString("last_name");
+        resp.studentEmail = rs.getString("email");
+        resp.college = rs.getString("college");
+        resp.course = rs.getString("course");
+        resp.yearOfStudy = rs.getString("year_of_study");
+        String skills = rs.getString("skills");
+        resp.skills = skills == null ? Collections.emptyList() : Arrays.asList(skills.split(FIELD_SEP));
+        resp.resume = toDocInfo(rs, "resume");
+        resp.marksheet = toDocInfo(rs, "marksheet");
+        resp.certificates = new ArrayList<>();
+        String certificates = rs.getString("certificates");
+        if (certificates != null) {
+            for (String cert : certificates.split(ROW_SEP)) {
+                String[] parts = cert.split(FIELD_SEP, -1);
+                ApplicationResponse.DocumentInfo info = new ApplicationResponse.DocumentInfo();
+                info.id = Long.valueOf(parts[0]);
+                info.name = parts[1];
+                info.url = parts[2];
+                info.status = parts[3];
+                resp.certificates.add(info);
+            }
+        }
+        resp.status = rs.getString("status");
+        Timestamp appliedAt = rs.getTimestamp("applied_at");
+        resp.appliedAt = appliedAt != null ? appliedAt.toLocalDateTime() : null;
+        resp.questionForApplicant = rs.getString("question_for_applicant");
+        resp.answerForRecruiter = rs.getString("answer_for_recruiter");
+        double fitScore = rs.getDouble("fit_score");
+        resp.fitScore = rs.wasNull() ? null : fitScore;
+        return resp;
+    }
+
+    private static ApplicationResponse.DocumentInfo toDocInfo(ResultSet rs, String prefix) throws SQLException {
+        long id = rs.getLong(prefix + "_id");
+        if (rs.wasNull()) {
+            return null;
+        }
+        ApplicationResponse.DocumentInfo info = new ApplicationResponse.DocumentInfo();
+        info.id = id;
+        info.name = rs.getString(prefix + "_name");
+        info.url = rs.getString(prefix + "_url");
+        info.status = rs.getString(prefix + "_status");
+        return info;
+    }
+
+    private static List<String> toCsvFields(ApplicationResponse row) {
+        String certificates = row.certificates.stream()
+                .map(c -> c.name + " <" + c.url + "> " + c.status)
+                .collect(Collectors.joining("; "));
+        return Arrays.asList(String.valueOf(row.id), String.valueOf(row.jobId), row.jobTitle,
+                String.valueOf(row.studentProfileId), row.studentName, row.studentEmail, row.college, row.course,
+                row.yearOfStudy, String.join("; ", row.skills),
+                row.resume != null ? row.resume.url : null, row.resume != null ? row.resume.status : null,
+                row.marksheet != null ? row.marksheet.url : null, row.marksheet != null ? row.marksheet.status : null,
+                certificates, row.status, row.appliedAt != null ? row.appliedAt.toString() : null,
+                row.questionForApplicant, row.answerForRecruiter,
+                row.fitScore != null ? row.fitScore.toString() : null);
+    }
+
+    private static void writeCsvRow(Writer writer, List<String> fields) throws IOException {
+        for (int i = 0; i < fields.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvField(fields.get(i)));
+        }
+        writer.write("\r\n");
+    }
+
+    private static String csvField(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        // Stop spreadsheets from evaluating student-supplied text as a formula
+        if ("=+-@".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('"') >= 0 || value.indexOf('\n') >= 0
+                || value.indexOf('\r') >= 0) {
+            return '"' + value.replace("\"", "\"\"") + '"';
+        }
+        return value;
+    }
+}
@@ -3,13 +3,41 @@ package com.zidioconnect.service;
 import com.zidioconnect.model.*;
 import com.zidioconnect.repository.*;
 import com.zidioconnect.dto.*;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 public class ApplicationService {
+    private static final Logger logger = LoggerFactory.getLogger(ApplicationService.class);
+
     @Autowired
     private ApplicationRepository applicationRepository;
     @Autowired
@@ -20,42 +48,319 @@ public class ApplicationService {
     private StudentDocumentRepository studentDocumentRepository;
     @Autowired
     private StudentCertificateRepository studentCertificateRepository;
+    @Autowired
+    private TrendingJobService trendingJobService;
+    @Autowired
+    private ApplicantScoringService applicantScoringService;
+    @Autowired
+    private ApplicationStatusEventRepository statusEventRepository;
+    @Autowired
+    private ApplicationCounterService applicationCounterService;
+    @Autowired
+    private ArchivedApplicationRepository archivedApplicationRepository;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private ApplyRateLimiter applyRateLimiter;
+
+    /**
+     * Creates the application, or returns the existing one when the student already
+     * applied to this job or the Idempotency-Key was seen before. Related rows are
+     * loaded with a fixed number of queries regardless of how many certificates are attached.
+     * Throws JobClosedException for closed jobs and JobCapacityExceededException when the
+     * job's maxApplicants cap is reached. A rate-limit token is spent only on an insert;
+     * replays, duplicates and rejections are free, and ApplyRateLimitedException is
+     * thrown when the student has no token left.
+     */
+    public Application apply(ApplicationRequest request, Long studentProfileId, String idempotencyKey) {
+        if (idempotencyKey != null) {
+            Application replay = applicationRepository
+                    .findByStudentProfile_IdAndIdempotencyKey(studentProfileId, idempotencyKey).orElse(null);
+            if (replay != null) {
+                return replay;
+            }
+        }
+        Application existing = applicationRepository
+                .findByStudentProfile_IdAndJob_Id(studentProfileId, request.jobId).orElse(null);
+        if (existing != null) {
+            return existing;
+        }
 
-    public Application apply(ApplicationRequest request, Long studentProfileId) {
-        StudentProfile profile = studentProfileRepository.findById(studentProfileId).orElseThrow();
         RecruiterJob job = recruiterJobRepository.findById(request.jobId).orElseThrow();
-        StudentDocument resume = studentDocumentRepository.findById(request.resumeId).orElse(null);
-        StudentDocument marksheet = studentDocumentRepository.findById(request.marksheetId).orElse(null);
-        List<StudentCertificate> certificates = request.certificateIds == null ? List.of()
-                : request.certificateIds.stream().map(id -> studentCertificateRepository.findById(id).orElse(null))
-                        .collect(Collectors.toList());
+        if (job.getClosedAt() != null) {
+            throw new JobClosedException(job.getId());
+        }
+        List<Long> documentIds = Stream.of(request.resumeId, request.marksheetId).filter(Objects::nonNull).toList();
+        Map<Long, StudentDocument> documents = documentIds.isEmpty() ? Map.of()
+                : studentDocumentRepository.findAllById(documentIds).stream()
+                        .collect(Collectors.toMap(StudentDocument::getId, d -> d));
+        List<StudentCertificate> certificates = request.certificateIds == null || request.certificateIds.isEmpty()
+                ? new ArrayList<>()
+                : new ArrayList<>(studentCertificateRepository.findAllById(request.certificateIds));
 
         Application application = new Application();
-        application.setStudentProfile(profile);
+        // The controller already resolved the profile, so a reference avoids another SELECT
+        application.setStudentProfile(studentProfileRepository.getReferenceById(studentProfileId));
         application.setJob(job);
-        application.setResume(resume);
-        application.setMarksheet(marksheet);
+        application.setResume(request.resumeId != null ? documents.get(request.resumeId) : null);
+        application.setMarksheet(request.marksheetId != null ? documents.get(request.marksheetId) : null);
         application.setCertificates(certificates);
         application.setStatus("APPLIED");
         application.setAnswerForRecruiter(request.answerForRecruiter);
-        return applicationRepository.save(application);
+        application.setIdempotencyKey(idempotencyKey);
+        long retryAfter = applyRateLimiter.tryAcquire(studentProfileId);
+        if (retryAfter > 0) {
+            throw new ApplyRateLimitedException(retryAfter);
+        }
+        Application saved = null;
+        try {
+            // The initial APPLIED event commits or rolls back together with the application
+            saved = transactionTemplate.execute(status -> {
+                // Take the slot first: inserting first would hold the FK share lock on the job row
+                // and two concurrent applies would deadlock upgrading it
+                if (recruiterJobRepository.tryIncrementApplicantCount(job.getId()) == 0) {
+                    throw new JobCapacityExceededException(job.getId());
+                }
+                Application inserted = applicationRepository.save(application);
+                statusEventRepository.save(new ApplicationStatusEvent(inserted.getId(), job.getId(), null,
+                        inserted.getStatus(), null));
+                applicationCounterService.recordApplied(job.getId(), inserted.getStatus());
+                return inserted;
+            });
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent duplicate request won the race on the unique (student, job) key
+            return applicationRepository.findByStudentProfile_IdAndJob_Id(studentProfileId, request.jobId)
+                    .orElseThrow(() -> e);
+        } finally {
+            if (saved == null) {
+                applyRateLimiter.release(studentProfileId);
+            }
+        }
+        trendingJobService.recordApplication(job.getId());
+        applicantScoringService.enqueue(saved.getId());
+        return saved;
     }
 
-    public List<Application> getApplicationsByStudent(Long studentProfileId) {
+    // Live applications followed by those archived with their closed jobs
+    public List<AbstractApplication> getApplicationsByStudent(Long studentProfileId) {
         StudentProfile profile = studentProfileRepository.findById(studentProfileId).orElseThrow();
-        return applicationRepository.findByStudentProfile(profile);
+        List<AbstractApplication> applications = new ArrayList<>(applicationRepository.findByStudentProfile(profile));
+        applications.addAll(archivedApplicationRepository.findByStudentProfile_Id(studentProfileId));
+        return applications;
     }
 
-    public List<Application> getApplicationsByJob(Long jobId) {
-        RecruiterJob job = recruiterJobRepository.findById(jobId).orElseThrow();
-        return applicationRepository.findByJob(job);
+    // Sortable applicant columns exposed to recruiters, mapped to entity paths
+    public static final Map<String, String> APPLICANT_SORTS = Map.of(
+            "appliedAt", "appliedAt",
+            "status", "status",
+            "gpa", "studentProfile.gpaNormalized",
+            "fitScore", "fitScore");
+
+    // Archival only touches closed jobs and flags them once every chunk has moved, so a
+    // closed job that is not flagged yet may have applications in both tables
+    public static boolean hasLiveApplications(RecruiterJob job) {
+        return job.getApplicationsArchivedAt() == null;
     }
 
+    public static boolean hasArchivedApplications(RecruiterJob job) {
+        return job.getApplicationsArchivedAt() != null || job.getClosedAt() != null;
+    }
+
+    /**
+     * One page of a job's applicants. Profile, job and documents come back with the page
+     * query; skills and certificates are batch-initialised, so the query count does not
+     * grow with the page size. Archived jobs are read from applications_archive; a closed
+     * job whose archival has started but not finished is read from both tables.
+     */
+    public Page<? extends AbstractApplication> getApplicationsByJob(RecruiterJob job, String status,
+            Pageable pageable) {
+        if (!hasLiveApplications(job)) {
+            return archivedPage(job.getId(), status, pageable);
+        }
+        if (!hasArchivedApplications(job)) {
+            return livePage(job.getId(), status, pageable);
+        }
+        // One transaction gives both reads the same snapshot, so a chunk moving in between is seen once
+        return transactionTemplate.execute(tx -> {
+            if (!archivedApplicationRepository.existsByJob_Id(job.getId())) {
+                return livePage(job.getId(), status, pageable);
+            }
+            if (!applicationRepository.existsByJob_Id(job.getId())) {
+                return archivedPage(job.getId(), status, pageable);
+            }
+            // Both tables sorted the same way; the page is the merge of each table's first offset + size rows
+            Pageable window = PageRequest.of(0, (int) pageable.getOffset() + pageable.getPageSize(),
+                    pageable.getSort());
+            Page<? extends AbstractApplication> live = livePage(job.getId(), status, window);
+            Page<? extends AbstractApplication> archived = archivedPage(job.getId(), status, window);
+            List<AbstractApplication> merged = new ArrayList<>(live.getContent());
+            merged.addAll(archived.getContent());
+            merged.sort(comparator(pageable.getSort()));
+            int from = (int) Math.min(pageable.getOffset(), merged.size());
+            int to = Math.min(from + pageable.getPageSize(), merged.size());
+            return new PageImpl<>(new ArrayList<>(merged.subList(from, to)), pageable,
+                    live.getTotalElements() + archived.getTotalElements());
+        });
+    }
+
+    private Page<Application> livePage(Long jobId, String status, Pageable pageable) {
+        return status == null || status.isBlank() ? applicationRepository.findByJob_Id(jobId, pageable)
+                : applicationRepository.findByJob_IdAndStatus(jobId, status, pageable);
+    }
+
+    private Page<ArchivedApplication> archivedPage(Long jobId, String status, Pageable pageable) {
+        return status == null || status.isBlank() ? archivedApplicationRepository.findByJob_Id(jobId, pageable)
+                : archivedApplicationRepository.findByJob_IdAndStatus(jobId, status, pageable);
+    }
+
+    // In-memory equivalent of the page query's ORDER BY; nulls sort first ascending, as in MySQL
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    private static Comparator<AbstractApplication> comparator(Sort sort) {
+        Comparator<AbstractApplication> result = (a, b) -> 0;
+        for (Sort.Order order : sort) {
+            Comparator<AbstractApplication> byProperty = Comparator.comparing(
+                    app -> (Comparable) new BeanWrapperImpl(app).getPropertyValue(order.getProperty()),
+                    Comparator.nullsFirst(Comparator.naturalOrder()));
+            result = result.thenComparing(order.isAscending() ? byProperty : byProperty.reversed());
+        }
+        return result;
+    }
+
+    // Live application only; archived applications are read-only
     public Application getApplicationById(Long id) {
         return applicationRepository.findById(id).orElse(null);
     }
 
+    // Live or archived application, for read paths
+    public AbstractApplication findApplication(Long id) {
+        Application live = applicationRepository.findById(id).orElse(null);
+        return live != null ? live : archivedApplicationRepository.findById(id).orElse(null);
+    }
+
     public Application save(Application app) {
         return applicationRepository.save(app);
     }
-}
\ No newline at end of file
+
+    /**
+     * Changes the status and appends the transition to application_events in one transaction.
+     * Throws ObjectOptimisticLockingFailureException when expectedVersion is stale or another
+     * writer commits first.
+     */
+    @Transactional
+    public Application updateStatus(Application app, String status, Long expectedVersion, String changedBy) {
+        if (expectedVersion != null && expectedVersion != app.getVersion()) {
+            throw new ObjectOptimisticLockingFailureException(Application.class, app.getId());
+        }
+        String previous = app.getStatus();
+        app.setStatus(status);
+        // Flush here so a version clash surfaces from this call rather than at commit
+        Application saved = applicationRepository.saveAndFlush(app);
+        if (!status.equals(previous)) {
+            ApplicationStatusEvent event = statusEventRepository.save(new ApplicationStatusEvent(app.getId(),
+                    app.getJob().getId(), previous, status, changedBy));
+            applicationCounterService.recordTransitions(List.of(event));
+        }
+        return saved;
+    }
+
+    public List<ApplicationStatusEvent> getTimeline(Long applicationId) {
+        return statusEventRepository.findByApplicationIdOrderByCreatedAtAscIdAsc(applicationId);
+    }
+
+    public ApplicationFunnelResponse getFunnel(Long jobId, LocalDateTime from, LocalDateTime to) {
+        ApplicationFunnelResponse resp = new ApplicationFunnelResponse();
+        resp.jobId = jobId;
+        resp.stages = new ArrayList<>();
+        for (Object[] row : statusEventRepository.countReachedByStatus(jobId, from, to)) {
+            resp.stages.add(new ApplicationFunnelResponse.Stage((String) row[0], (Long) row[1]));
+        }
+        resp.stages.sort((a, b) -> Long.compare(b.applications, a.applications));
+        return resp;
+    }
+
+    /**
+     * Seeds an APPLIED event for applications created before the event log existed,
+     * so the funnel counts them. Runs once, while application_events is still empty.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillStatusEvents() {
+        if (statusEventRepository.count() > 0) {
+            return;
+        }
+        int seeded = jdbcTemplate.update("INSERT INTO application_events (application_id, job_id, from_status,"
+                + " to_status, changed_by, created_at) SELECT a.id, a.job_id, NULL, 'APPLIED', NULL,"
+                + " COALESCE(a.applied_at, NOW()) FROM applications a");
+        if (seeded > 0) {
+            logger.info("Seeded {} application status events", seeded);
+        }
+    }
+
+    public static final int MAX_BULK_STATUS_IDS = 1000;
+
+    /**
+     * Sets the status of every application the recruiter owns with one ownership query and
+     * one UPDATE, and writes their events with one INSERT. Ids that do not exist or belong
+     * to another recruiter's job are left alone and reported per id, in request order.
+     * The ownership query locks the rows, so a concurrent bulk update or PATCH waits and
+     * events and counters reflect the status that was actually replaced.
+     */
+    @Transactional
+    public BulkStatusUpdateResponse bulkUpdateStatus(Long recruiterId, List<Long> applicationIds, String status,
+            String changedBy) {
+        Map<Long, Object[]> rows = new HashMap<>();
+        Map<Long, Long> owners = new HashMap<>();
+        for (Object[] row : applicationRepository.lockOwnershipByIdIn(new LinkedHashSet<>(applicationIds))) {
+            rows.put((Long) row[0], row);
+            owners.put((Long) row[0], (Long) row[1]);
+        }
+        Set<Long> allowed = new LinkedHashSet<>();
+        List<BulkStatusUpdateResponse.Result> results = new ArrayList<>();
+        for (Long id : new LinkedHashSet<>(applicationIds)) {
+            Long owner = owners.get(id);
+            String outcome;
+            if (owner == null) {
+                outcome = "NOT_FOUND";
+            } else if (!owner.equals(recruiterId)) {
+                outcome = "FORBIDDEN";
+            } else {
+                outcome = "UPDATED";
+                allowed.add(id);
+            }
+            results.add(new BulkStatusUpdateResponse.Result(id, outcome));
+        }
+        BulkStatusUpdateResponse resp = new BulkStatusUpdateResponse();
+        resp.updated = allowed.isEmpty() ? 0 : applicationRepository.updateStatusByIdIn(allowed, status);
+        List<ApplicationStatusEvent> events = new ArrayList<>();
+        for (Long id : allowed) {
+            Object[] row = rows.get(id);
+            if (!status.equals(row[2])) {
+                events.add(new ApplicationStatusEvent(id, (Long) row[3], (String) row[2], status, changedBy));
+            }
+        }
+        insertStatusEvents(events);
+        applicationCounterService.recordTransitions(events);
+        resp.results = results;
+        return resp;
+    }
+
+    // One multi-row INSERT; IDENTITY ids keep Hibernate from batching saveAll into fewer statements
+    private void insertStatusEvents(List<ApplicationStatusEvent> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        String values = String.join(",", Collections.nCopies(events.size(), "(?, ?, ?, ?, ?, ?)"));
+        List<Object> args = new ArrayList<>(events.size() * 6);
+        for (ApplicationStatusEvent event : events) {
+            args.add(event.getApplicationId());
+            args.add(event.getJobId());
+            args.add(event.getFromStatus());
+            args.add(event.getToStatus());
+            args.add(event.getChangedBy());
+            args.add(Timestamp.valueOf(event.getCreatedAt()));
+        }
+        jdbcTemplate.update("INSERT INTO application_events (application_id, job_id, from_status, to_status,"
+                + " changed_by, created_at) VALUES " + values, args.toArray());
+    }
+}
@@ -0,0 +1,15 @@
+package com.zidioconnect.service;
+
+// Thrown by apply when the student has used up their application tokens
+public class ApplyRateLimitedException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public ApplyRateLimitedException(long retryAfterSeconds) {
+        super("Too many applications, try again later");
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
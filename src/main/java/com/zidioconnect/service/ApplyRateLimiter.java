@@ -0,0 +1,80 @@
+package com.zidioconnect.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-memory token bucket per student profile for the apply endpoint. Each student can
+ * burst up to {@code capacity} applications, then earns tokens back at a steady rate.
+ */
+@Service
+public class ApplyRateLimiter {
+    private final Map<Long, Bucket> buckets = new ConcurrentHashMap<>();
+    private final double capacity;
+    private final double tokensPerNano;
+
+    public ApplyRateLimiter(@Value("${jobs.apply-rate.capacity:10}") int capacity,
+            @Value("${jobs.apply-rate.refill-per-hour:30}") int refillPerHour) {
+        this.capacity = capacity;
+        this.tokensPerNano = refillPerHour / (double) TimeUnit.HOURS.toNanos(1);
+    }
+
+    private final class Bucket {
+        private double tokens = capacity;
+        private long refilledAt = System.nanoTime();
+
+        // Returns 0 when a token was taken, otherwise the nanoseconds until one is available
+        synchronized long tryTake(long now) {
+            refill(now);
+            if (tokens >= 1) {
+                tokens -= 1;
+                return 0;
+            }
+            return (long) Math.ceil((1 - tokens) / tokensPerNano);
+        }
+
+        synchronized void giveBack(long now) {
+            refill(now);
+            tokens = Math.min(capacity, tokens + 1);
+        }
+
+        synchronized boolean isFull(long now) {
+            refill(now);
+            return tokens >= capacity;
+        }
+
+        private void refill(long now) {
+            tokens = Math.min(capacity, tokens + (now - refilledAt) * tokensPerNano);
+            refilledAt = now;
+        }
+    }
+
+    /**
+     * Takes one token for the student. Returns 0 when the request may proceed, otherwise
+     * the number of seconds to wait before retrying.
+     */
+    public long tryAcquire(Long studentProfileId) {
+        long waitNanos = buckets.computeIfAbsent(studentProfileId, id -> new Bucket()).tryTake(System.nanoTime());
+        return waitNanos == 0 ? 0 : Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos) + 1);
+    }
+
+    // Returns a token taken for an apply that ended up inserting nothing
+    public void release(Long studentProfileId) {
+        Bucket bucket = buckets.get(studentProfileId);
+        if (bucket != null) {
+            bucket.giveBack(System.nanoTime());
+        }
+    }
+
+    // A full bucket behaves exactly like a missing one, so idle students are dropped to bound memory
+    @Scheduled(fixedDelay = 600000)
+    public void evictIdle() {
+        long now = System.nanoTime();
+        buckets.entrySet().removeIf(entry -> entry.getValue().isFull(now));
+    }
+}
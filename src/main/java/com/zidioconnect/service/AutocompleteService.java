@@ -0,0 +1,142 @@
+package com.zidioconnect.service;
+
+import com.zidioconnect.dto.JobWithCompanyDTO;
+import com.zidioconnect.event.JobChangedEvent;
+import com.zidioconnect.event.StudentProfileChangedEvent;
+import com.zidioconnect.repository.RecruiterJobRepository;
+import com.zidioconnect.repository.StudentProfileRepository;
+import com.zidioconnect.util.CompletionTrie;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Typeahead over approved job titles and student skills. Weights are the number
+ * of approved jobs with a title, or the number of profiles listing a skill. Both
+ * tries are kept current from job and profile events, so lookups never query MySQL.
+ */
+@Service
+public class AutocompleteService {
+    private static final Logger logger = LoggerFactory.getLogger(AutocompleteService.class);
+
+    public static final String TYPE_TITLE = "title";
+    public static final String TYPE_SKILL = "skill";
+
+    @Autowired
+    private RecruiterJobRepository jobRepo;
+    @Autowired
+    private StudentProfileRepository profileRepo;
+
+    private final CompletionTrie titles = new CompletionTrie();
+    private final CompletionTrie skills = new CompletionTrie();
+    // Previous values, so an update can subtract what it replaces
+    private final Map<Long, String> jobTitles = new HashMap<>();
+    private final Map<Long, Set<String>> profileSkills = new HashMap<>();
+
+    public static class Suggestion {
+        public final String text;
+        public final String type;
+        public final int weight;
+
+        Suggestion(String text, String type, int weight) {
+            this.text = text;
+            this.type = type;
+            this.weight = weight;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void buildIndex() {
+        for (JobWithCompanyDTO job : jobRepo.findWithCompanyByStatus("APPROVED")) {
+            setJobTitle(job.id, job.title);
+        }
+        Map<Long, List<String>> skillsByProfile = new HashMap<>();
+        for (Object[] row : profileRepo.findAllSkillPairs()) {
+            skillsByProfile.computeIfAbsent((Long) row[0], id -> new ArrayList<>()).add((String) row[1]);
+        }
+        skillsByProfile.forEach(this::setProfileSkills);
+        logger.info("Autocomplete built with {} job titles and {} student profiles", jobTitles.size(),
+                profileSkills.size());
+    }
+
+    @EventListener
+    public void onJobChanged(JobChangedEvent event) {
+        JobWithCompanyDTO job = null;
+        if (event.getType() != JobChangedEvent.Type.DELETED) {
+            List<JobWithCompanyDTO> rows = jobRepo.findWithCompanyByIdIn(List.of(event.getJobId()));
+            job = rows.isEmpty() ? null : rows.get(0);
+        }
+        boolean approved = job != null && "APPROVED".equals(job.adminApprovalStatus);
+        synchronized (this) {
+            setJobTitle(event.getJobId(), approved ? job.title : null);
+        }
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public synchronized void onProfileChanged(StudentProfileChangedEvent event) {
+        setProfileSkills(event.getProfileId(), event.getSkills());
+    }
+
+    public synchronized List<Suggestion> complete(String prefix, String type, int limit) {
+        List<Suggestion> suggestions = new ArrayList<>();
+        if (type == null || TYPE_TITLE.equals(type)) {
+            titles.complete(prefix, limit).forEach(c -> suggestions.add(new Suggestion(c.text, TYPE_TITLE, c.weight)));
+        }
+        if (type == null || TYPE_SKILL.equals(type)) {
+            skills.complete(prefix, limit).forEach(c -> suggestions.add(new Suggestion(c.text, TYPE_SKILL, c.weight)));
+        }
+        suggestions.sort((a, b) -> Integer.compare(b.weight, a.weight));
+        return suggestions.size() > limit ? suggestions.subList(0, limit) : suggestions;
+    }
+
+    private void setJobTitle(Long jobId, String title) {
+        String previous = title == null || title.isBlank() ? jobTitles.remove(jobId) : jobTitles.put(jobId, title);
+        if (previous != null) {
+            titles.add(previous, -1);
+        }
+        if (title != null && !title.isBlank()) {
+            titles.add(title, 1);
+        }
+    }
+
+    private void setProfileSkills(Long profileId, List<String> skillNames) {
+        // Keyed case-insensitively so "Java" and "java" on one profile count once
+        Map<String, String> current = new LinkedHashMap<>();
+        if (skillNames != null) {
+            for (String skill : skillNames) {
+                if (skill != null && !skill.isBlank()) {
+                    current.putIfAbsent(skill.trim().toLowerCase(Locale.ROOT), skill.trim());
+                }
+            }
+        }
+        Set<String> previous = profileSkills.getOrDefault(profileId, Set.of());
+        for (String skill : previous) {
+            if (!current.containsKey(skill)) {
+                skills.add(skill, -1);
+            }
+        }
+        current.forEach((key, display) -> {
+            if (!previous.contains(key)) {
+                skills.add(display, 1);
+            }
+        });
+        if (current.isEmpty()) {
+            profileSkills.remove(profileId);
+        } else {
+            profileSkills.put(profileId, new TreeSet<>(current.keySet()));
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.zidioconnect.service;
+
+import com.zidioconnect.model.StudentProfile;
+import com.zidioconnect.repository.StudentProfileRepository;
+import com.zidioconnect.util.GpaNormalizer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// Normalises gpa into gpaNormalized for profiles saved before the column existed
+@Service
+public class GpaBackfillService {
+    private static final Logger logger = LoggerFactory.getLogger(GpaBackfillService.class);
+
+    @Autowired
+    private StudentProfileRepository profileRepo;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${jobs.gpa-backfill.batch-size:500}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long afterId = 0;
+        int updated = 0;
+        while (true) {
+            final long from = afterId;
+            // One short transaction per batch so the backfill never holds locks on the whole table
+            List<StudentProfile> batch = transactionTemplate.execute(status -> {
+                List<StudentProfile> profiles = profileRepo.findGpaBackfillBatch(from, PageRequest.of(0, batchSize));
+                profiles.forEach(GpaNormalizer::applyTo);
+                return profiles;
+            });
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            updated += batch.size();
+            afterId = batch.get(batch.size() - 1).getId();
+        }
+        if (updated > 0) {
+            logger.info("Backfilled normalised GPA for {} student profiles", updated);
+        }
+    }
+}
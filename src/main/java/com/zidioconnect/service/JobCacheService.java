@@ -0,0 +1,54 @@
+package com.zidioconnect.service;
+
+import com.zidioconnect.dto.JobFeedPage;
+import com.zidioconnect.dto.JobWithCompanyDTO;
+import com.zidioconnect.event.JobChangedEvent;
+import com.zidioconnect.util.LruCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+// Caches the approved-job feed and per-id job lookups; invalidated by JobChangedEvent.
+// Entries are read models shared between requests, never JPA entities: authorization and
+// writes must go through RecruiterJobService.loadJob.
+@Service
+public class JobCacheService {
+    private final LruCache<String, List<JobWithCompanyDTO>> approvedListCache;
+    private final LruCache<String, JobFeedPage> feedPageCache;
+    private final LruCache<Long, JobWithCompanyDTO> jobCache;
+
+    public JobCacheService(@Value("${jobs.cache.feed-pages:256}") int feedPages,
+            @Value("${jobs.cache.jobs:1000}") int jobs) {
+        this.approvedListCache = new LruCache<>("approvedJobs", 1);
+        this.feedPageCache = new LruCache<>("approvedFeedPages", feedPages);
+        this.jobCache = new LruCache<>("jobsById", jobs);
+    }
+
+    public List<JobWithCompanyDTO> getApprovedJobs(Function<String, List<JobWithCompanyDTO>> loader) {
+        return approvedListCache.get("APPROVED", status -> List.copyOf(loader.apply(status)));
+    }
+
+    public JobFeedPage getFeedPage(String key, Function<String, JobFeedPage> loader) {
+        return feedPageCache.get(key, loader);
+    }
+
+    public JobWithCompanyDTO getJob(Long id, Function<Long, JobWithCompanyDTO> loader) {
+        return jobCache.get(id, loader);
+    }
+
+    // Any write can change approval status or ordering, so every feed entry is dropped
+    @EventListener
+    public void onJobChanged(JobChangedEvent event) {
+        approvedListCache.invalidateAll();
+        feedPageCache.invalidateAll();
+        jobCache.invalidate(event.getJobId());
+    }
+
+    public List<Map<String, Object>> stats() {
+        return List.of(approvedListCache.stats(), feedPageCache.stats(), jobCache.stats());
+    }
+}
@@ -0,0 +1,8 @@
+package com.zidioconnect.service;
+
+// Thrown by apply when the job has reached its maxApplicants cap
+public class JobCapacityExceededException extends RuntimeException {
+    public JobCapacityExceededException(Long jobId) {
+        super("Job " + jobId + " is no longer accepting applications");
+    }
+}
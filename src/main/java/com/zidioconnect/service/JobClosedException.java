@@ -0,0 +1,8 @@
+package com.zidioconnect.service;
+
+// Thrown by apply when the job has been closed by its recruiter
+public class JobClosedException extends RuntimeException {
+    public JobClosedException(Long jobId) {
+        super("Job " + jobId + " is closed");
+    }
+}
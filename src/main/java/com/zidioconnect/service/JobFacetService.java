@@ -0,0 +1,318 @@
+package com.zidioconnect.service;
+
+import com.zidioconnect.dto.JobFacetPage;
+import com.zidioconnect.dto.JobWithCompanyDTO;
+import com.zidioconnect.event.JobChangedEvent;
+import com.zidioconnect.repository.RecruiterJobRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Facet filtering over approved jobs. Every approved job gets a dense ordinal,
+ * and each (field, value) pair keeps a BitSet of the ordinals that carry it, so
+ * filters are bitset intersections and facet counts are cardinalities instead of
+ * GROUP BY queries. Ordinals are handed out in creation/approval order, which
+ * lets pages be read newest-first by walking the bitset backwards.
+ *
+ * <p>Removed jobs leave holes, so once enough have built up the index is compacted:
+ * live jobs are renumbered in their existing order and the generation is bumped. Page
+ * cursors carry the generation they were issued in, and the previous generation's
+ * ordinal mapping is kept so a client paging across one compaction resumes in place.
+ */
+@Service
+public class JobFacetService {
+    private static final Logger logger = LoggerFactory.getLogger(JobFacetService.class);
+
+    public static final List<String> FIELDS = List.of("location", "jobType", "department", "duration");
+
+    @Autowired
+    private RecruiterJobRepository jobRepo;
+
+    @Value("${jobs.facets.compact-min-removed:1024}")
+    private int compactMinRemoved;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final List<Long> jobIds = new ArrayList<>();
+    private final BitSet live = new BitSet();
+    // field -> normalised value -> ordinals
+    private final Map<String, Map<String, BitSet>> valueBits = new HashMap<>();
+    // field -> normalised value -> display label
+    private final Map<String, Map<String, String>> labels = new HashMap<>();
+    // ordinal -> normalised values in FIELDS order, needed to clear the job's bits on removal
+    private final Map<Integer, String[]> jobValues = new HashMap<>();
+    private int removed;
+    private int generation;
+    // previous generation's ordinal -> number of its live ordinals below it, i.e. the new ordinal
+    private int[] previousRank;
+
+    public static class Result {
+        public final List<Long> jobIds;
+        public final String nextCursor;
+        public final int total;
+        public final Map<String, List<JobFacetPage.FacetCount>> facets;
+
+        Result(List<Long> jobIds, String nextCursor, int total, Map<String, List<JobFacetPage.FacetCount>> facets) {
+            this.jobIds = jobIds;
+            this.nextCursor = nextCursor;
+            this.total = total;
+            this.facets = facets;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        List<JobWithCompanyDTO> jobs = new ArrayList<>(jobRepo.findWithCompanyByStatus("APPROVED"));
+        jobs.sort(Comparator.comparing((JobWithCompanyDTO j) -> j.createdAt,
+                Comparator.nullsFirst(Comparator.naturalOrder())).thenComparing(j -> j.id));
+        lock.writeLock().lock();
+        try {
+            ordinals.clear();
+            jobIds.clear();
+            live.clear();
+            valueBits.clear();
+            labels.clear();
+            jobValues.clear();
+            removed = 0;
+            // A full rebuild can reorder jobs, so no earlier cursor can be mapped onto it
+            generation++;
+            previousRank = null;
+            for (JobWithCompanyDTO job : jobs) {
+                add(job);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Job facet index built with {} jobs", jobs.size());
+    }
+
+    @EventListener
+    public void onJobChanged(JobChangedEvent event) {
+        JobWithCompanyDTO job = null;
+        if (event.getType() != JobChangedEvent.Type.DELETED) {
+            List<JobWithCompanyDTO> rows = jobRepo.findWithCompanyByIdIn(List.of(event.getJobId()));
+            job = rows.isEmpty() ? null : rows.get(0);
+        }
+        lock.writeLock().lock();
+        try {
+            boolean approved = job != null && "APPROVED".equals(job.adminApprovalStatus);
+            Integer ordinal = ordinals.get(event.getJobId());
+            if (ordinal != null && approved) {
+                // Keep the job's position in the feed, only refresh its values
+                clearValues(ordinal);
+                setValues(ordinal, job);
+            } else if (ordinal != null) {
+                clearValues(ordinal);
+                live.clear(ordinal);
+                ordinals.remove(event.getJobId());
+                removed++;
+                if (removed >= compactMinRemoved && removed >= ordinals.size()) {
+                    compact();
+                }
+            } else if (approved) {
+                add(job);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @param selections field -> selected values; values within a field are OR-ed, fields are AND-ed
+     * @param cursor the previous page's nextCursor, or null for the first page
+     * @throws IllegalArgumentException if the cursor is malformed or from an index generation no longer known
+     */
+    public Result filter(Map<String, List<String>> selections, String cursor, int limit) {
+        lock.readLock().lock();
+        try {
+            Integer beforeOrdinal = cursor == null || cursor.isBlank() ? null : resolveCursor(cursor);
+
+            Map<String, BitSet> fieldMatches = new HashMap<>();
+            for (String field : FIELDS) {
+                List<String> selected = selections.get(field);
+                if (selected != null && !selected.isEmpty()) {
+                    fieldMatches.put(field, union(field, selected));
+                }
+            }
+
+            BitSet matches = (BitSet) live.clone();
+            fieldMatches.values().forEach(matches::and);
+
+            List<Long> page = new ArrayList<>(limit);
+            int from = beforeOrdinal == null ? live.length() - 1 : beforeOrdinal - 1;
+            int ordinal = from < 0 ? -1 : matches.previousSetBit(from);
+            while (ordinal >= 0 && page.size() < limit) {
+                page.add(jobIds.get(ordinal));
+                ordinal = ordinal == 0 ? -1 : matches.previousSetBit(ordinal - 1);
+            }
+            String nextCursor = ordinal >= 0 ? generation + "." + (ordinal + 1) : null;
+
+            // Disjunctive faceting: each field's counts ignore that field's own selection
+            Map<String, List<JobFacetPage.FacetCount>> facets = new LinkedHashMap<>();
+            for (String field : FIELDS) {
+                BitSet base = (BitSet) live.clone();
+                fieldMatches.forEach((other, bits) -> {
+                    if (!other.equals(field)) {
+                        base.and(bits);
+                    }
+                });
+                List<JobFacetPage.FacetCount> counts = new ArrayList<>();
+                valueBits.getOrDefault(field, Map.of()).forEach((value, bits) -> {
+                    BitSet intersection = (BitSet) bits.clone();
+                    intersection.and(base);
+                    int count = intersection.cardinality();
+                    if (count > 0) {
+                        counts.add(new JobFacetPage.FacetCount(labels.get(field).get(value), count));
+                    }
+                });
+                counts.sort((a, b) -> Integer.compare(b.count, a.count));
+                facets.put(field, counts);
+            }
+            return new Result(page, nextCursor, matches.cardinality(), facets);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Maps "generation.ordinal" to an exclusive upper bound in the current numbering
+    private Integer resolveCursor(String cursor) {
+        int dot = cursor.indexOf('.');
+        if (dot < 0) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        int cursorGeneration;
+        int beforeOrdinal;
+        try {
+            cursorGeneration = Integer.parseInt(cursor.substring(0, dot));
+            beforeOrdinal = Integer.parseInt(cursor.substring(dot + 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+        if (beforeOrdinal < 0) {
+            throw new IllegalArgumentException("Invalid cursor");
+        }
+        if (cursorGeneration == generation) {
+            return beforeOrdinal;
+        }
+        if (cursorGeneration == generation - 1 && previousRank != null) {
+            return previousRank[Math.min(beforeOrdinal, previousRank.length - 1)];
+        }
+        throw new IllegalArgumentException("Invalid cursor");
+    }
+
+    // Renumbers live jobs densely in their current order; caller holds the write lock
+    private void compact() {
+        int[] rank = new int[jobIds.size() + 1];
+        List<Long> liveIds = new ArrayList<>(ordinals.size());
+        for (int i = 0; i < jobIds.size(); i++) {
+            rank[i] = liveIds.size();
+            if (live.get(i)) {
+                liveIds.add(jobIds.get(i));
+            }
+        }
+        rank[jobIds.size()] = liveIds.size();
+
+        jobIds.clear();
+        jobIds.addAll(liveIds);
+        ordinals.clear();
+        for (int i = 0; i < jobIds.size(); i++) {
+            ordinals.put(jobIds.get(i), i);
+        }
+        live.clear();
+        live.set(0, jobIds.size());
+        for (Map<String, BitSet> byValue : valueBits.values()) {
+            byValue.replaceAll((value, bits) -> {
+                BitSet moved = new BitSet(jobIds.size());
+                bits.stream().forEach(ordinal -> moved.set(rank[ordinal]));
+                return moved;
+            });
+        }
+        Map<Integer, String[]> movedValues = new HashMap<>();
+        jobValues.forEach((ordinal, values) -> movedValues.put(rank[ordinal], values));
+        jobValues.clear();
+        jobValues.putAll(movedValues);
+
+        logger.info("Job facet index compacted from {} to {} ordinals", rank.length - 1, jobIds.size());
+        removed = 0;
+        generation++;
+        previousRank = rank;
+    }
+
+    private BitSet union(String field, List<String> selected) {
+        BitSet result = new BitSet();
+        Map<String, BitSet> values = valueBits.getOrDefault(field, Map.of());
+        for (String value : selected) {
+            BitSet bits = values.get(normalize(value));
+            if (bits != null) {
+                result.or(bits);
+            }
+        }
+        return result;
+    }
+
+    private void add(JobWithCompanyDTO job) {
+        int ordinal = jobIds.size();
+        jobIds.add(job.id);
+        ordinals.put(job.id, ordinal);
+        live.set(ordinal);
+        setValues(ordinal, job);
+    }
+
+    private void setValues(int ordinal, JobWithCompanyDTO job) {
+        String[] raw = { job.location, job.jobType, job.department, job.duration };
+        String[] normalized = new String[FIELDS.size()];
+        for (int i = 0; i < FIELDS.size(); i++) {
+            String key = normalize(raw[i]);
+            if (key == null) {
+                continue;
+            }
+            String field = FIELDS.get(i);
+            normalized[i] = key;
+            valueBits.computeIfAbsent(field, f -> new HashMap<>()).computeIfAbsent(key, k -> new BitSet()).set(ordinal);
+            labels.computeIfAbsent(field, f -> new HashMap<>()).put(key, raw[i].trim());
+        }
+        jobValues.put(ordinal, normalized);
+    }
+
+    private void clearValues(int ordinal) {
+        String[] values = jobValues.remove(ordinal);
+        if (values == null) {
+            return;
+        }
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] == null) {
+                continue;
+            }
+            String field = FIELDS.get(i);
+            Map<String, BitSet> byValue = valueBits.get(field);
+            BitSet bits = byValue.get(values[i]);
+            bits.clear(ordinal);
+            if (bits.isEmpty()) {
+                byValue.remove(values[i]);
+                labels.get(field).remove(values[i]);
+            }
+        }
+    }
+
+    private static String normalize(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,91 @@
+package com.zidioconnect.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zidioconnect.dto.JobFeedPage;
+import com.zidioconnect.event.JobChangedEvent;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The first page of the approved feed is the same for every student, so it is
+ * serialised and gzipped once per job change and served as raw bytes with an ETag.
+ * A change only marks the snapshot stale; the next request rebuilds it.
+ */
+@Service
+public class JobFeedSnapshotService {
+    @Autowired
+    private RecruiterJobService jobService;
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final AtomicLong generation = new AtomicLong();
+    private volatile Snapshot current;
+
+    public static class Snapshot {
+        public final byte[] json;
+        public final byte[] gzip;
+        public final String etag;
+
+        Snapshot(byte[] json, byte[] gzip, String etag) {
+            this.json = json;
+            this.gzip = gzip;
+            this.etag = etag;
+        }
+    }
+
+    public Snapshot getFirstPage() {
+        Snapshot snapshot = current;
+        if (snapshot != null) {
+            return snapshot;
+        }
+        synchronized (this) {
+            if (current != null) {
+                return current;
+            }
+            long buildGeneration = generation.get();
+            // Read from the database, not the page cache, so a rebuild never captures a stale page
+            JobFeedPage page = jobService.loadApprovedJobsPage(null, RecruiterJobService.DEFAULT_PAGE_SIZE);
+            snapshot = build(page);
+            if (buildGeneration == generation.get()) {
+                current = snapshot;
+            }
+            return snapshot;
+        }
+    }
+
+    @EventListener
+    public void onJobChanged(JobChangedEvent event) {
+        generation.incrementAndGet();
+        current = null;
+    }
+
+    private Snapshot build(JobFeedPage page) {
+        try {
+            byte[] json = objectMapper.writeValueAsBytes(page);
+            ByteArrayOutputStream compressed = new ByteArrayOutputStream(json.length / 4 + 64);
+            try (GZIPOutputStream gzip = new GZIPOutputStream(compressed)) {
+                gzip.write(json);
+            }
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(json);
+            String etag = "\"" + HexFormat.of().formatHex(digest, 0, 16) + "\"";
+            return new Snapshot(json, compressed.toByteArray(), etag);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialise job feed snapshot", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
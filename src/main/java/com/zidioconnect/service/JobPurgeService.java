@@ -0,0 +1,91 @@
+package com.zidioconnect.service;
+
+import com.zidioconnect.repository.RecruiterJobRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Removes soft-deleted jobs and everything hanging off them: applications (live and
+ * archived), their certificate links and messages, status events, counters and stats.
+ * Work is done in small batches, each in its own transaction, so a job with thousands
+ * of applicants never holds locks for long. The job row goes last.
+ */
+@Service
+public class JobPurgeService {
+    private static final Logger logger = LoggerFactory.getLogger(JobPurgeService.class);
+
+    @Autowired
+    private RecruiterJobRepository jobRepo;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${jobs.purge.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${jobs.purge.interval-ms:60000}")
+    public void purgeDeletedJobs() {
+        for (Long jobId : jobRepo.findIdsToPurge()) {
+            try {
+                purgeJob(jobId);
+            } catch (RuntimeException e) {
+                // Left soft-deleted; the next run resumes where this one stopped
+                logger.warn("Purging job {} failed", jobId, e);
+            }
+        }
+    }
+
+    public void purgeJob(Long jobId) {
+        int applications = 0;
+        int chunk;
+        while ((chunk = purgeApplications(jobId, "applications", "application_certificates")) > 0) {
+            applications += chunk;
+        }
+        while ((chunk = purgeApplications(jobId, "applications_archive", "application_certificates_archive")) > 0) {
+            applications += chunk;
+        }
+        int events;
+        do {
+            events = deleteBatch("DELETE FROM application_events WHERE job_id = ? LIMIT ?", jobId);
+        } while (events > 0);
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM job_application_counters WHERE job_id = ?", jobId);
+            jdbcTemplate.update("DELETE FROM job_stats WHERE job_id = ?", jobId);
+            jdbcTemplate.update("DELETE FROM recruiter_jobs WHERE id = ? AND deleted_at IS NOT NULL", jobId);
+        });
+        logger.info("Purged deleted job {} with {} applications", jobId, applications);
+    }
+
+    private int purgeApplications(Long jobId, String applicationTable, String certificateTable) {
+        Integer purged = transactionTemplate.execute(status -> {
+            List<Long> ids = jdbcTemplate.queryForList(
+                    "SELECT id FROM " + applicationTable + " WHERE job_id = ? ORDER BY id LIMIT ? FOR UPDATE",
+                    Long.class, jobId, batchSize);
+            if (ids.isEmpty()) {
+                return 0;
+            }
+            String in = String.join(",", Collections.nCopies(ids.size(), "?"));
+            Object[] args = ids.toArray();
+            jdbcTemplate.update("DELETE FROM messages WHERE application_id IN (" + in + ")", args);
+            jdbcTemplate.update("DELETE FROM " + certificateTable + " WHERE application_id IN (" + in + ")", args);
+            jdbcTemplate.update("DELETE FROM " + applicationTable + " WHERE id IN (" + in + ")", args);
+            return ids.size();
+        });
+        return purged != null ? purged : 0;
+    }
+
+    private int deleteBatch(String sql, Long jobId) {
+        Integer deleted = transactionTemplate.execute(status -> jdbcTemplate.update(sql, jobId, batchSize));
+        return deleted != null ? deleted : 0;
+    }
+}
@@ -0,0 +1,245 @@
+package com.zidioconnect.service;
+
+import com.zidioconnect.dto.JobWithCompanyDTO;
+import com.zidioconnect.event.JobChangedEvent;
+import com.zidioconnect.event.StudentProfileChangedEvent;
+import com.zidioconnect.model.StudentProfile;
+import com.zidioconnect.model.StudentProfileJobRole;
+import com.zidioconnect.model.StudentProfileLocation;
+import com.zidioconnect.model.StudentProfileSkill;
+import com.zidioconnect.repository.RecruiterJobRepository;
+import com.zidioconnect.repository.StudentProfileRepository;
+import com.zidioconnect.util.TextAnalyzer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps a precomputed top-K list of approved jobs per student.
+ * A profile save rescans the approved jobs for that one student; a job approval
+ * scores the single job against every student with a cached list, so reads only
+ * copy out K entries.
+ */
+@Service
+public class JobRecommendationService {
+    private static final Logger logger = LoggerFactory.getLogger(JobRecommendationService.class);
+
+    private static final double SKILL_WEIGHT = 3.0;
+    private static final double SKILL_IN_TITLE_BONUS = 1.0;
+    private static final double ROLE_WEIGHT = 4.0;
+    private static final double LOCATION_WEIGHT = 2.0;
+
+    @Autowired
+    private RecruiterJobRepository jobRepo;
+    @Autowired
+    private StudentProfileRepository profileRepo;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${jobs.recommendations.top-k:20}")
+    private int topK;
+
+    private final Map<Long, JobFeatures> jobs = new ConcurrentHashMap<>();
+    private final Map<Long, StudentFeatures> students = new ConcurrentHashMap<>();
+    private final Map<Long, List<Recommendation>> recommendations = new ConcurrentHashMap<>();
+
+    public static class Recommendation {
+        public final Long jobId;
+        public final double score;
+
+        Recommendation(Long jobId, double score) {
+            this.jobId = jobId;
+            this.score = score;
+        }
+    }
+
+    private static class JobFeatures {
+        final Set<String> terms = new HashSet<>();
+        final Set<String> titleTerms = new HashSet<>();
+        final String location;
+
+        JobFeatures(JobWithCompanyDTO job) {
+            titleTerms.addAll(TextAnalyzer.analyze(job.title));
+            terms.addAll(titleTerms);
+            terms.addAll(TextAnalyzer.analyze(job.department));
+            terms.addAll(TextAnalyzer.analyze(job.description));
+            terms.addAll(TextAnalyzer.analyze(job.requirements));
+            location = job.location != null ? job.location.trim().toLowerCase(Locale.ROOT) : "";
+        }
+    }
+
+    private static class StudentFeatures {
+        final List<List<String>> skills = new ArrayList<>();
+        final List<List<String>> roles = new ArrayList<>();
+        final List<String> locations = new ArrayList<>();
+
+        StudentFeatures(List<String> skillNames, List<String> roleNames, List<String> locationNames) {
+            addAnalyzed(skills, skillNames);
+            addAnalyzed(roles, roleNames);
+            if (locationNames != null) {
+                for (String location : locationNames) {
+                    if (location != null && !location.isBlank()) {
+                        locations.add(location.trim().toLowerCase(Locale.ROOT));
+                    }
+                }
+            }
+        }
+
+        private static void addAnalyzed(List<List<String>> target, List<String> values) {
+            if (values == null) {
+                return;
+            }
+            for (String value : values) {
+                List<String> terms = TextAnalyzer.analyze(value);
+                if (!terms.isEmpty()) {
+                    target.add(terms);
+                }
+            }
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadJobs() {
+        for (JobWithCompanyDTO job : jobRepo.findWithCompanyByStatus("APPROVED")) {
+            jobs.put(job.id, new JobFeatures(job));
+        }
+        logger.info("Recommendation engine loaded {} approved jobs", jobs.size());
+    }
+
+    // Runs after the profile transaction commits
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfileChanged(StudentProfileChangedEvent event) {
+        StudentFeatures features = new StudentFeatures(event.getSkills(), event.getPreferredJobRoles(),
+                event.getPreferredLocations());
+        students.put(event.getProfileId(), features);
+        recommendations.put(event.getProfileId(), computeTopK(features));
+    }
+
+    @EventListener
+    public void onJobChanged(JobChangedEvent event) {
+        JobWithCompanyDTO job = null;
+        if (event.getType() != JobChangedEvent.Type.DELETED) {
+            List<JobWithCompanyDTO> rows = jobRepo.findWithCompanyByIdIn(List.of(event.getJobId()));
+            job = rows.isEmpty() ? null : rows.get(0);
+        }
+        Long jobId = event.getJobId();
+        if (job == null || !"APPROVED".equals(job.adminApprovalStatus)) {
+            if (jobs.remove(jobId) != null) {
+                // Lists that lose an entry are recomputed on next read so they refill to K
+                recommendations.entrySet().removeIf(entry -> entry.getValue().stream()
+                        .anyMatch(r -> r.jobId.equals(jobId)));
+            }
+            return;
+        }
+        JobFeatures features = new JobFeatures(job);
+        jobs.put(jobId, features);
+        students.forEach((profileId, student) -> {
+            double score = score(student, features);
+            recommendations.computeIfPresent(profileId, (id, current) -> insert(current, jobId, score));
+        });
+    }
+
+    public List<Recommendation> getRecommendations(Long profileId) {
+        List<Recommendation> cached = recommendations.get(profileId);
+        if (cached != null) {
+            return cached;
+        }
+        StudentFeatures features = students.get(profileId);
+        if (features == null) {
+            StudentFeatures loaded = loadStudent(profileId);
+            if (loaded == null) {
+                return List.of();
+            }
+            // A concurrent profile save wins over what we just loaded
+            StudentFeatures existing = students.putIfAbsent(profileId, loaded);
+            features = existing != null ? existing : loaded;
+        }
+        List<Recommendation> computed = computeTopK(features);
+        recommendations.put(profileId, computed);
+        return computed;
+    }
+
+    private StudentFeatures loadStudent(Long profileId) {
+        return transactionTemplate.execute(status -> {
+            StudentProfile profile = profileRepo.findById(profileId).orElse(null);
+            if (profile == null) {
+                return null;
+            }
+            return new StudentFeatures(
+                    profile.getSkills().stream().map(StudentProfileSkill::getSkill).toList(),
+                    profile.getPreferredJobRoles().stream().map(StudentProfileJobRole::getJobRole).toList(),
+                    profile.getPreferredLocations().stream().map(StudentProfileLocation::getLocation).toList());
+        });
+    }
+
+    private List<Recommendation> computeTopK(StudentFeatures student) {
+        List<Recommendation> result = new ArrayList<>();
+        jobs.forEach((jobId, job) -> {
+            double score = score(student, job);
+            if (score > 0) {
+                result.add(new Recommendation(jobId, score));
+            }
+        });
+        result.sort((a, b) -> Double.compare(b.score, a.score));
+        return List.copyOf(result.size() > topK ? result.subList(0, topK) : result);
+    }
+
+    // Returns a new list so readers holding the old one never see a partial update
+    private List<Recommendation> insert(List<Recommendation> current, Long jobId, double score) {
+        List<Recommendation> updated = new ArrayList<>(current.size() + 1);
+        for (Recommendation r : current) {
+            if (!r.jobId.equals(jobId)) {
+                updated.add(r);
+            }
+        }
+        if (score > 0) {
+            int position = 0;
+            while (position < updated.size() && updated.get(position).score >= score) {
+                position++;
+            }
+            updated.add(position, new Recommendation(jobId, score));
+        }
+        return List.copyOf(updated.size() > topK ? updated.subList(0, topK) : updated);
+    }
+
+    private double score(StudentFeatures student, JobFeatures job) {
+        double score = 0;
+        for (List<String> skill : student.skills) {
+            if (job.terms.containsAll(skill)) {
+                score += SKILL_WEIGHT;
+                if (job.titleTerms.containsAll(skill)) {
+                    score += SKILL_IN_TITLE_BONUS;
+                }
+            }
+        }
+        double bestRole = 0;
+        for (List<String> role : student.roles) {
+            long matched = role.stream().filter(job.titleTerms::contains).count();
+            bestRole = Math.max(bestRole, (double) matched / role.size());
+        }
+        score += ROLE_WEIGHT * bestRole;
+        if (score > 0 && !job.location.isEmpty()) {
+            for (String location : student.locations) {
+                if (job.location.contains(location) || location.contains(job.location)) {
+                    score += LOCATION_WEIGHT;
+                    break;
+                }
+            }
+        }
+        return score;
+    }
+}
@@ -0,0 +1,196 @@
+package com.zidioconnect.service;
+
+import com.zidioconnect.dto.JobWithCompanyDTO;
+import com.zidioconnect.event.JobChangedEvent;
+import com.zidioconnect.repository.RecruiterJobRepository;
+import com.zidioconnect.util.TextAnalyzer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-process inverted index over approved jobs with BM25 ranking.
+ * Title and department terms are weighted above description and requirements.
+ * The index is built at startup and kept current from JobChangedEvent.
+ */
+@Service
+public class JobSearchService {
+    private static final Logger logger = LoggerFactory.getLogger(JobSearchService.class);
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_WEIGHT = 3;
+    private static final int DEPARTMENT_WEIGHT = 2;
+    private static final int MAX_PREFIX_EXPANSIONS = 10;
+
+    @Autowired
+    private RecruiterJobRepository jobRepo;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    // term -> (jobId -> weighted term frequency); sorted so the last query term can be prefix-expanded
+    private final NavigableMap<String, Map<Long, Integer>> postings = new TreeMap<>();
+    // jobId -> (term -> weighted term frequency), kept so a job can be removed without re-analysing it
+    private final Map<Long, Map<String, Integer>> documents = new HashMap<>();
+    private final Map<Long, Integer> documentLengths = new HashMap<>();
+    private long totalLength;
+
+    public static class Hit {
+        public final Long jobId;
+        public final double score;
+
+        public Hit(Long jobId, double score) {
+            this.jobId = jobId;
+            this.score = score;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        List<JobWithCompanyDTO> jobs = jobRepo.findWithCompanyByStatus("APPROVED");
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            documents.clear();
+            documentLengths.clear();
+            totalLength = 0;
+            for (JobWithCompanyDTO job : jobs) {
+                addDocument(job);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Job search index built with {} jobs", jobs.size());
+    }
+
+    @EventListener
+    public void onJobChanged(JobChangedEvent event) {
+        JobWithCompanyDTO job = null;
+        if (event.getType() != JobChangedEvent.Type.DELETED) {
+            List<JobWithCompanyDTO> rows = jobRepo.findWithCompanyByIdIn(List.of(event.getJobId()));
+            job = rows.isEmpty() ? null : rows.get(0);
+        }
+        lock.writeLock().lock();
+        try {
+            removeDocument(event.getJobId());
+            if (job != null && "APPROVED".equals(job.adminApprovalStatus)) {
+                addDocument(job);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Hit> search(String query, int limit) {
+        List<String> terms = TextAnalyzer.analyze(query);
+        List<String> rawTokens = TextAnalyzer.split(query);
+        // While the user is still typing, treat the last token as a prefix
+        String prefix = !rawTokens.isEmpty() && !Character.isWhitespace(query.charAt(query.length() - 1))
+                ? rawTokens.get(rawTokens.size() - 1)
+                : null;
+        Map<Long, Double> scores = new HashMap<>();
+        lock.readLock().lock();
+        try {
+            if (documents.isEmpty()) {
+                return List.of();
+            }
+            double avgLength = (double) totalLength / documents.size();
+            for (String term : terms) {
+                score(term, 1.0, avgLength, scores);
+            }
+            if (prefix != null) {
+                int expanded = 0;
+                for (String term : postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false).keySet()) {
+                    if (terms.contains(term)) {
+                        continue;
+                    }
+                    // Prefix matches count for less than an exact term match
+                    score(term, 0.5, avgLength, scores);
+                    if (++expanded >= MAX_PREFIX_EXPANSIONS) {
+                        break;
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        List<Hit> hits = new ArrayList<>(scores.size());
+        scores.forEach((jobId, score) -> hits.add(new Hit(jobId, score)));
+        hits.sort((a, b) -> Double.compare(b.score, a.score));
+        return hits.size() > limit ? hits.subList(0, limit) : hits;
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void score(String term, double boost, double avgLength, Map<Long, Double> scores) {
+        Map<Long, Integer> postingList = postings.get(term);
+        if (postingList == null) {
+            return;
+        }
+        int n = documents.size();
+        int df = postingList.size();
+        double idf = Math.log(1 + (n - df + 0.5) / (df + 0.5));
+        for (Map.Entry<Long, Integer> posting : postingList.entrySet()) {
+            double tf = posting.getValue();
+            double length = documentLengths.get(posting.getKey());
+            double norm = tf * (K1 + 1) / (tf + K1 * (1 - B + B * length / avgLength));
+            scores.merge(posting.getKey(), boost * idf * norm, Double::sum);
+        }
+    }
+
+    private void addDocument(JobWithCompanyDTO job) {
+        Map<String, Integer> termFrequencies = new HashMap<>();
+        addField(termFrequencies, job.title, TITLE_WEIGHT);
+        addField(termFrequencies, job.department, DEPARTMENT_WEIGHT);
+        addField(termFrequencies, job.description, 1);
+        addField(termFrequencies, job.requirements, 1);
+        int length = 0;
+        for (Map.Entry<String, Integer> entry : termFrequencies.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), t -> new HashMap<>()).put(job.id, entry.getValue());
+            length += entry.getValue();
+        }
+        documents.put(job.id, termFrequencies);
+        documentLengths.put(job.id, length);
+        totalLength += length;
+    }
+
+    private void addField(Map<String, Integer> termFrequencies, String text, int weight) {
+        for (String term : TextAnalyzer.analyze(text)) {
+            termFrequencies.merge(term, weight, Integer::sum);
+        }
+    }
+
+    private void removeDocument(Long jobId) {
+        Map<String, Integer> termFrequencies = documents.remove(jobId);
+        if (termFrequencies == null) {
+            return;
+        }
+        for (String term : termFrequencies.keySet()) {
+            Map<Long, Integer> postingList = postings.get(term);
+            if (postingList != null) {
+                postingList.remove(jobId);
+                if (postingList.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+        totalLength -= documentLengths.remove(jobId);
+    }
+}
@@ -0,0 +1,211 @@
+package com.zidioconnect.service;
+
+import com.zidioconnect.dto.JobWithCompanyDTO;
+import com.zidioconnect.event.JobChangedEvent;
+import com.zidioconnect.repository.RecruiterJobRepository;
+import com.zidioconnect.util.TextAnalyzer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * "Similar jobs" via MinHash signatures over word 3-gram shingles of a job's
+ * description and requirements, bucketed with banded locality-sensitive hashing.
+ * A lookup only compares the job against the candidates that share a band bucket,
+ * never against every other job.
+ */
+@Service
+public class JobSimilarityService {
+    private static final Logger logger = LoggerFactory.getLogger(JobSimilarityService.class);
+
+    private static final int BANDS = 32;
+    private static final int ROWS = 4;
+    private static final int NUM_HASHES = BANDS * ROWS;
+    private static final int SHINGLE_SIZE = 3;
+    private static final long PRIME = 2147483647L; // 2^31 - 1
+
+    @Autowired
+    private RecruiterJobRepository jobRepo;
+
+    private final long[] hashA = new long[NUM_HASHES];
+    private final long[] hashB = new long[NUM_HASHES];
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, int[]> signatures = new HashMap<>();
+    private final List<Map<Long, Set<Long>>> buckets = new ArrayList<>(BANDS);
+
+    public static class Match {
+        public final Long jobId;
+        public final double similarity;
+
+        Match(Long jobId, double similarity) {
+            this.jobId = jobId;
+            this.similarity = similarity;
+        }
+    }
+
+    public JobSimilarityService() {
+        // Fixed seed so signatures are comparable across restarts
+        Random random = new Random(0x5eed);
+        for (int i = 0; i < NUM_HASHES; i++) {
+            hashA[i] = 1 + random.nextInt(Integer.MAX_VALUE - 1);
+            hashB[i] = random.nextInt(Integer.MAX_VALUE);
+        }
+        for (int band = 0; band < BANDS; band++) {
+            buckets.add(new HashMap<>());
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        List<JobWithCompanyDTO> jobs = jobRepo.findWithCompanyByStatus("APPROVED");
+        lock.writeLock().lock();
+        try {
+            signatures.clear();
+            buckets.forEach(Map::clear);
+            for (JobWithCompanyDTO job : jobs) {
+                add(job);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        logger.info("Job similarity index built with {} jobs", jobs.size());
+    }
+
+    @EventListener
+    public void onJobChanged(JobChangedEvent event) {
+        JobWithCompanyDTO job = null;
+        if (event.getType() != JobChangedEvent.Type.DELETED) {
+            List<JobWithCompanyDTO> rows = jobRepo.findWithCompanyByIdIn(List.of(event.getJobId()));
+            job = rows.isEmpty() ? null : rows.get(0);
+        }
+        lock.writeLock().lock();
+        try {
+            remove(event.getJobId());
+            if (job != null && "APPROVED".equals(job.adminApprovalStatus)) {
+                add(job);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public List<Match> findSimilar(Long jobId, int limit) {
+        List<Match> matches = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            int[] signature = signatures.get(jobId);
+            if (signature == null) {
+                return matches;
+            }
+            Set<Long> candidates = new HashSet<>();
+            for (int band = 0; band < BANDS; band++) {
+                Set<Long> bucket = buckets.get(band).get(bandKey(signature, band));
+                if (bucket != null) {
+                    candidates.addAll(bucket);
+                }
+            }
+            candidates.remove(jobId);
+            for (Long candidate : candidates) {
+                matches.add(new Match(candidate, estimateJaccard(signature, signatures.get(candidate))));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        matches.sort((a, b) -> Double.compare(b.similarity, a.similarity));
+        return matches.size() > limit ? matches.subList(0, limit) : matches;
+    }
+
+    private void add(JobWithCompanyDTO job) {
+        Set<Integer> shingles = shingles(job);
+        if (shingles.isEmpty()) {
+            return;
+        }
+        int[] signature = new int[NUM_HASHES];
+        Arrays.fill(signature, Integer.MAX_VALUE);
+        for (int shingle : shingles) {
+            long x = shingle & 0x7fffffffL;
+            for (int i = 0; i < NUM_HASHES; i++) {
+                int h = (int) ((hashA[i] * x + hashB[i]) % PRIME);
+                if (h < signature[i]) {
+                    signature[i] = h;
+                }
+            }
+        }
+        signatures.put(job.id, signature);
+        for (int band = 0; band < BANDS; band++) {
+            buckets.get(band).computeIfAbsent(bandKey(signature, band), k -> new HashSet<>()).add(job.id);
+        }
+    }
+
+    private void remove(Long jobId) {
+        int[] signature = signatures.remove(jobId);
+        if (signature == null) {
+            return;
+        }
+        for (int band = 0; band < BANDS; band++) {
+            long key = bandKey(signature, band);
+            Set<Long> bucket = buckets.get(band).get(key);
+            if (bucket != null) {
+                bucket.remove(jobId);
+                if (bucket.isEmpty()) {
+                    buckets.get(band).remove(key);
+                }
+            }
+        }
+    }
+
+    private static Set<Integer> shingles(JobWithCompanyDTO job) {
+        List<String> terms = new ArrayList<>(TextAnalyzer.analyze(job.description));
+        terms.addAll(TextAnalyzer.analyze(job.requirements));
+        Set<Integer> shingles = new HashSet<>();
+        if (terms.size() < SHINGLE_SIZE) {
+            terms.forEach(term -> shingles.add(mix(term.hashCode())));
+            return shingles;
+        }
+        for (int i = 0; i + SHINGLE_SIZE <= terms.size(); i++) {
+            shingles.add(mix(String.join(" ", terms.subList(i, i + SHINGLE_SIZE)).hashCode()));
+        }
+        return shingles;
+    }
+
+    private static long bandKey(int[] signature, int band) {
+        long key = band;
+        for (int row = band * ROWS; row < (band + 1) * ROWS; row++) {
+            key = key * 31 + signature[row];
+        }
+        return key;
+    }
+
+    private static double estimateJaccard(int[] a, int[] b) {
+        int equal = 0;
+        for (int i = 0; i < NUM_HASHES; i++) {
+            if (a[i] == b[i]) {
+                equal++;
+            }
+        }
+        return (double) equal / NUM_HASHES;
+    }
+
+    // Murmur3 finaliser, spreads String.hashCode before the universal hash
+    private static int mix(int h) {
+        h ^= h >>> 16;
+        h *= 0x85ebca6b;
+        h ^= h >>> 13;
+        h *= 0xc2b2ae35;
+        h ^= h >>> 16;
+        return h;
+    }
+}
@@ -0,0 +1,144 @@
+package com.zidioconnect.service;
+
+import com.zidioconnect.model.JobStats;
+import com.zidioconnect.repository.JobStatsRepository;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Per-job view and apply-click counters. Hits only touch a striped LongAdder;
+ * a scheduled task drains the deltas into job_stats with one batched upsert.
+ * A flush holds the write lock from draining the adders until the upsert has
+ * landed, and reads take the read lock, so a read sees every delta exactly
+ * once: either still in an adder or already in job_stats.
+ */
+@Service
+public class JobStatsService {
+    private static final Logger logger = LoggerFactory.getLogger(JobStatsService.class);
+
+    // Selecting from recruiter_jobs skips jobs purged since the hit, so no orphan rows are written
+    private static final String UPSERT_SQL = "INSERT INTO job_stats (job_id, view_count, apply_click_count, updated_at)"
+            + " SELECT id, ?, ?, ? FROM recruiter_jobs WHERE id = ?"
+            + " ON DUPLICATE KEY UPDATE view_count = view_count + VALUES(view_count),"
+            + " apply_click_count = apply_click_count + VALUES(apply_click_count), updated_at = VALUES(updated_at)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+    @Autowired
+    private JobStatsRepository jobStatsRepository;
+
+    private final Map<Long, LongAdder> views = new ConcurrentHashMap<>();
+    private final Map<Long, LongAdder> applyClicks = new ConcurrentHashMap<>();
+    // Adders dropped for staying idle through a flush. A hit may still land on one after it was
+    // removed, so each is counted by reads and drained once more by the next flush before being discarded.
+    private Map<Long, LongAdder> retiredViews = new HashMap<>();
+    private Map<Long, LongAdder> retiredApplyClicks = new HashMap<>();
+    private final ReentrantReadWriteLock flushLock = new ReentrantReadWriteLock();
+
+    public static class Stats {
+        public Long jobId;
+        public long viewCount;
+        public long applyClickCount;
+    }
+
+    public void recordView(Long jobId) {
+        views.computeIfAbsent(jobId, id -> new LongAdder()).increment();
+    }
+
+    public void recordApplyClick(Long jobId) {
+        applyClicks.computeIfAbsent(jobId, id -> new LongAdder()).increment();
+    }
+
+    public Stats getStats(Long jobId) {
+        Stats stats = new Stats();
+        stats.jobId = jobId;
+        flushLock.readLock().lock();
+        try {
+            JobStats persisted = jobStatsRepository.findById(jobId).orElse(null);
+            if (persisted != null) {
+                stats.viewCount = persisted.getViewCount();
+                stats.applyClickCount = persisted.getApplyClickCount();
+            }
+            stats.viewCount += pending(views, jobId) + pending(retiredViews, jobId);
+            stats.applyClickCount += pending(applyClicks, jobId) + pending(retiredApplyClicks, jobId);
+        } finally {
+            flushLock.readLock().unlock();
+        }
+        return stats;
+    }
+
+    @Scheduled(fixedDelayString = "${jobs.stats.flush-interval-ms:10000}")
+    public void flush() {
+        flushLock.writeLock().lock();
+        try {
+            Map<Long, long[]> deltas = new HashMap<>();
+            retiredViews = drain(views, retiredViews, deltas, 0);
+            retiredApplyClicks = drain(applyClicks, retiredApplyClicks, deltas, 1);
+            if (deltas.isEmpty()) {
+                return;
+            }
+            try {
+                Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+                List<Object[]> rows = new ArrayList<>(deltas.size());
+                deltas.forEach((jobId, delta) -> rows.add(new Object[] { delta[0], delta[1], now, jobId }));
+                jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+            } catch (RuntimeException e) {
+                // Put the deltas back so the next flush retries them
+                logger.warn("Job stats flush failed for {} jobs, will retry", deltas.size(), e);
+                deltas.forEach((jobId, delta) -> {
+                    views.computeIfAbsent(jobId, id -> new LongAdder()).add(delta[0]);
+                    applyClicks.computeIfAbsent(jobId, id -> new LongAdder()).add(delta[1]);
+                });
+            }
+        } finally {
+            flushLock.writeLock().unlock();
+        }
+    }
+
+    private static long pending(Map<Long, LongAdder> adders, Long jobId) {
+        LongAdder adder = adders.get(jobId);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    // Adds each adder's delta to deltas[jobId][slot]; idle adders are removed and returned as the new retired set
+    private static Map<Long, LongAdder> drain(Map<Long, LongAdder> live, Map<Long, LongAdder> retired,
+            Map<Long, long[]> deltas, int slot) {
+        retired.forEach((jobId, adder) -> addDelta(deltas, jobId, slot, adder.sumThenReset()));
+        Map<Long, LongAdder> idle = new HashMap<>();
+        live.forEach((jobId, adder) -> {
+            long delta = adder.sumThenReset();
+            if (delta != 0) {
+                addDelta(deltas, jobId, slot, delta);
+            } else if (live.remove(jobId, adder)) {
+                idle.put(jobId, adder);
+            }
+        });
+        return idle;
+    }
+
+    private static void addDelta(Map<Long, long[]> deltas, Long jobId, int slot, long delta) {
+        if (delta != 0) {
+            deltas.computeIfAbsent(jobId, id -> new long[2])[slot] += delta;
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -1,38 +1,302 @@
 package com.zidioconnect.service;
 
+import com.zidioconnect.dto.JobChangesResponse;
+import com.zidioconnect.dto.JobFeedPage;
+import com.zidioconnect.dto.JobWithCompanyDTO;
+import com.zidioconnect.dto.RecruiterJobRequest;
+import com.zidioconnect.event.JobChangedEvent;
+import com.zidioconnect.model.JobTombstone;
 import com.zidioconnect.model.RecruiterJob;
 import com.zidioconnect.model.Recruiter;
+import com.zidioconnect.repository.JobTombstoneRepository;
 import com.zidioconnect.repository.RecruiterJobRepository;
+import com.zidioconnect.util.JobChangesCursor;
+import com.zidioconnect.util.JobCursor;
+import com.zidioconnect.util.StipendParser;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 @Service
 public class RecruiterJobService {
+    public static final int DEFAULT_PAGE_SIZE = 20;
+    public static final int MAX_PAGE_SIZE = 100;
+
     @Autowired
     private RecruiterJobRepository jobRepo;
+    @Autowired
+    private JobCacheService jobCache;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @Autowired
+    private JobTombstoneRepository tombstoneRepo;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
 
-    public RecruiterJob saveJob(RecruiterJob job) {
-        return jobRepo.save(job);
+    // How long a write may take between stamping updatedAt/removedAt and committing
+    @Value("${jobs.changes.safety-margin-seconds:30}")
+    private long changesSafetyMarginSeconds;
+
+    /**
+     * Creates a job for the recruiter, or edits one of theirs when the request carries an id.
+     * Edits are copied onto the stored job, so columns the server maintains (approval status,
+     * applicant count, close and delete markers) cannot be overwritten from the request.
+     * Returns null when the job to edit does not exist, is deleted or belongs to someone else.
+     * A non-null version that no longer matches fails with ObjectOptimisticLockingFailureException.
+     */
+    public RecruiterJob saveJob(Recruiter recruiter, RecruiterJobRequest req) {
+        RecruiterJob saved = transactionTemplate.execute(tx -> {
+            RecruiterJob job;
+            if (req.id == null) {
+                job = new RecruiterJob();
+                job.setRecruiter(recruiter);
+            } else {
+                job = jobRepo.findById(req.id).orElse(null);
+                if (job == null || job.getDeletedAt() != null
+                        || !job.getRecruiter().getId().equals(recruiter.getId())) {
+                    return null;
+                }
+                if (req.version != null && req.version != job.getVersion()) {
+                    throw new ObjectOptimisticLockingFailureException(RecruiterJob.class, req.id);
+                }
+            }
+            job.setTitle(req.title);
+            job.setDepartment(req.department);
+            job.setLocation(req.location);
+            job.setJobType(req.jobType);
+            job.setStipendSalary(req.stipendSalary);
+            job.setDuration(req.duration);
+            job.setDescription(req.description);
+            job.setRequirements(req.requirements);
+            job.setQuestionForApplicant(req.questionForApplicant);
+            job.setMaxApplicants(req.maxApplicants);
+            StipendParser.applyTo(job);
+            job.setUpdatedAt(LocalDateTime.now());
+            return jobRepo.saveAndFlush(job);
+        });
+        if (saved != null) {
+            eventPublisher.publishEvent(new JobChangedEvent(saved.getId(), JobChangedEvent.Type.SAVED));
+        }
+        return saved;
+    }
+
+    // Admin approval/rejection; leaving APPROVED writes a tombstone for delta-sync clients. Deleted jobs
+    // are treated as missing. A concurrent soft delete bumps the version, so the flush below fails instead.
+    // A non-null expectedVersion that no longer matches fails with ObjectOptimisticLockingFailureException.
+    public RecruiterJob updateApprovalStatus(Long jobId, String status, Long expectedVersion) {
+        RecruiterJob updated = transactionTemplate.execute(tx -> {
+            RecruiterJob job = jobRepo.findById(jobId).orElse(null);
+            if (job == null || job.getDeletedAt() != null) {
+                return null;
+            }
+            if (expectedVersion != null && expectedVersion != job.getVersion()) {
+                throw new ObjectOptimisticLockingFailureException(RecruiterJob.class, jobId);
+            }
+            boolean wasApproved = "APPROVED".equals(job.getAdminApprovalStatus());
+            job.setAdminApprovalStatus(status);
+            job.setUpdatedAt(LocalDateTime.now());
+            if (wasApproved && !"APPROVED".equals(status)) {
+                tombstoneRepo.save(new JobTombstone(jobId, status));
+            }
+            return jobRepo.saveAndFlush(job);
+        });
+        if (updated != null) {
+            eventPublisher.publishEvent(new JobChangedEvent(jobId, JobChangedEvent.Type.STATUS_CHANGED));
+        }
+        return updated;
+    }
+
+    // Stops new applications; after jobs.archive.after-days the applications move to the archive
+    public boolean closeJob(Long jobId) {
+        Boolean closed = transactionTemplate.execute(tx -> {
+            RecruiterJob job = jobRepo.findById(jobId).orElse(null);
+            if (job == null || jobRepo.close(jobId, LocalDateTime.now()) == 0) {
+                return false;
+            }
+            if ("APPROVED".equals(job.getAdminApprovalStatus())) {
+                tombstoneRepo.save(new JobTombstone(jobId, "CLOSED"));
+            }
+            return true;
+        });
+        if (Boolean.TRUE.equals(closed)) {
+            eventPublisher.publishEvent(new JobChangedEvent(jobId, JobChangedEvent.Type.STATUS_CHANGED));
+        }
+        return Boolean.TRUE.equals(closed);
     }
 
     public List<RecruiterJob> getJobsByRecruiter(Recruiter recruiter) {
-        return jobRepo.findByRecruiter(recruiter);
+        return jobRepo.findByRecruiterAndDeletedAtIsNull(recruiter);
     }
 
     public List<RecruiterJob> getAllJobs() {
-        return jobRepo.findAll();
+        return jobRepo.findByDeletedAtIsNull();
     }
 
-    public RecruiterJob getJobById(Long id) {
+    // Bypasses the job cache, for responses that must show the committed state
+    public RecruiterJob loadJob(Long id) {
         return jobRepo.findById(id).orElse(null);
     }
 
+    // Cached read model for display; use loadJob for ownership checks and writes
+    public JobWithCompanyDTO getJobWithCompany(Long id) {
+        return jobCache.getJob(id, key -> {
+            List<JobWithCompanyDTO> jobs = jobRepo.findWithCompanyByIdIn(List.of(key));
+            return jobs.isEmpty() ? null : jobs.get(0);
+        });
+    }
+
+    // Soft delete: the job disappears from every list now, JobPurgeService removes the rows later
     public void deleteJob(Long id) {
-        jobRepo.deleteById(id);
+        Boolean deleted = transactionTemplate.execute(tx -> {
+            if (jobRepo.softDelete(id, LocalDateTime.now()) == 0) {
+                return false;
+            }
+            tombstoneRepo.save(new JobTombstone(id, "DELETED"));
+            return true;
+        });
+        if (Boolean.TRUE.equals(deleted)) {
+            eventPublisher.publishEvent(new JobChangedEvent(id, JobChangedEvent.Type.DELETED));
+        }
+    }
+
+    public List<JobWithCompanyDTO> getApprovedJobs() {
+        return jobCache.getApprovedJobs(status -> jobRepo.findWithCompanyByStatus(status));
+    }
+
+    public static int clampPageSize(Integer limit) {
+        if (limit == null || limit <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(limit, MAX_PAGE_SIZE);
+    }
+
+    public List<JobWithCompanyDTO> getAllJobsWithCompany() {
+        return jobRepo.findAllWithCompany();
+    }
+
+    public List<JobWithCompanyDTO> getApprovedJobsByStipend(String currency, long min, long max, int limit) {
+        return jobRepo.findApprovedByStipendRange(currency, min, max, PageRequest.of(0, limit));
+    }
+
+    /**
+     * Approved jobs changed and tombstones written after the cursor position. Each list
+     * is its own keyset stream, so a full page resumes from its last row and rows that
+     * share a timestamp are not lost. Only rows older than the safety margin are read:
+     * updatedAt and removedAt are stamped before commit, and a transaction still in
+     * flight could otherwise commit a row behind a position a client has already passed.
+     * When either stream fills its page, both are cut at the earlier of the full streams'
+     * last timestamps, so one stream never runs ahead of the other: a re-approval must not
+     * reach a client before the older unapproval tombstone it supersedes.
+     */
+    public JobChangesResponse getChangesSince(JobChangesCursor after, int limit) {
+        LocalDateTime upTo = LocalDateTime.now().minusSeconds(changesSafetyMarginSeconds);
+        PageRequest page = PageRequest.of(0, limit);
+        List<JobWithCompanyDTO> upserts = jobRepo.findApprovedUpdatedAfter(after.getUpdatedAt(), after.getJobId(),
+                upTo, page);
+        List<JobTombstone> tombstones = tombstoneRepo.findRemovedAfter(after.getRemovedAt(),
+                after.getTombstoneId(), upTo, page);
+        boolean hasMore = upserts.size() == limit || tombstones.size() == limit;
+
+        LocalDateTime bound = null;
+        if (upserts.size() == limit) {
+            bound = upserts.get(upserts.size() - 1).updatedAt;
+        }
+        if (tombstones.size() == limit) {
+            LocalDateTime lastRemoved = tombstones.get(tombstones.size() - 1).getRemovedAt();
+            bound = bound == null || lastRemoved.isBefore(bound) ? lastRemoved : bound;
+        }
+        if (bound != null) {
+            LocalDateTime cut = bound;
+            upserts = upserts.stream().filter(j -> !j.updatedAt.isAfter(cut)).toList();
+            tombstones = tombstones.stream().filter(t -> !t.getRemovedAt().isAfter(cut)).toList();
+        }
+
+        LocalDateTime updatedAt = after.getUpdatedAt();
+        Long jobId = after.getJobId();
+        if (!upserts.isEmpty()) {
+            JobWithCompanyDTO last = upserts.get(upserts.size() - 1);
+            updatedAt = last.updatedAt;
+            jobId = last.id;
+        }
+        LocalDateTime removedAt = after.getRemovedAt();
+        Long tombstoneId = after.getTombstoneId();
+        if (!tombstones.isEmpty()) {
+            JobTombstone last = tombstones.get(tombstones.size() - 1);
+            removedAt = last.getRemovedAt();
+            tombstoneId = last.getId();
+        }
+
+        JobChangesResponse response = new JobChangesResponse();
+        response.upserts = upserts;
+        response.tombstones = tombstones.stream()
+                .map(t -> new JobChangesResponse.Tombstone(t.getJobId(), t.getReason(), t.getRemovedAt()))
+                .toList();
+        response.cursor = new JobChangesCursor(updatedAt, jobId, removedAt, tombstoneId).encode();
+        response.hasMore = hasMore;
+        return response;
+    }
+
+    // Loads the given jobs in one query and returns them in the order of `ids`
+    public List<JobWithCompanyDTO> getJobsWithCompany(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, JobWithCompanyDTO> byId = new HashMap<>();
+        for (JobWithCompanyDTO job : jobRepo.findWithCompanyByIdIn(ids)) {
+            byId.put(job.id, job);
+        }
+        List<JobWithCompanyDTO> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            JobWithCompanyDTO job = byId.get(id);
+            if (job != null) {
+                ordered.add(job);
+            }
+        }
+        return ordered;
+    }
+
+    // Returns the page of approved jobs strictly after the cursor, newest first
+    public JobFeedPage getApprovedJobsPage(JobCursor after, int limit) {
+        String key = (after == null ? "" : after.encode()) + ":" + limit;
+        return jobCache.getFeedPage(key, k -> loadApprovedJobsPage(after, limit));
+    }
+
+    // Uncached read of a feed page
+    public JobFeedPage loadApprovedJobsPage(JobCursor after, int limit) {
+        // Fetch one extra row to know whether another page exists
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<JobWithCompanyDTO> rows = after == null
+                ? jobRepo.findFirstPageByStatus("APPROVED", page)
+                : jobRepo.findPageByStatusAfter("APPROVED", after.getCreatedAt(), after.getId(), page);
+        return toFeedPage(rows, limit);
+    }
+
+    public JobFeedPage getAllJobsPage(JobCursor after, int limit) {
+        PageRequest page = PageRequest.of(0, limit + 1);
+        List<JobWithCompanyDTO> rows = after == null
+                ? jobRepo.findFirstPage(page)
+                : jobRepo.findPageAfter(after.getCreatedAt(), after.getId(), page);
+        return toFeedPage(rows, limit);
     }
 
-    public List<RecruiterJob> getApprovedJobs() {
-        return jobRepo.findByAdminApprovalStatus("APPROVED");
+    private JobFeedPage toFeedPage(List<JobWithCompanyDTO> rows, int limit) {
+        JobFeedPage page = new JobFeedPage();
+        page.items = rows.size() > limit ? rows.subList(0, limit) : rows;
+        if (rows.size() > limit) {
+            JobWithCompanyDTO last = rows.get(limit - 1);
+            if (last.createdAt != null) {
+                page.nextCursor = new JobCursor(last.createdAt, last.id).encode();
+            }
+        }
+        return page;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,53 @@
+package com.zidioconnect.service;
+
+import com.zidioconnect.model.RecruiterJob;
+import com.zidioconnect.repository.RecruiterJobRepository;
+import com.zidioconnect.util.StipendParser;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+// Parses stipendSalary into the numeric stipend columns for rows saved before they existed
+@Service
+public class StipendBackfillService {
+    private static final Logger logger = LoggerFactory.getLogger(StipendBackfillService.class);
+
+    @Autowired
+    private RecruiterJobRepository jobRepo;
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Value("${jobs.stipend-backfill.batch-size:500}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        long afterId = 0;
+        int updated = 0;
+        while (true) {
+            final long from = afterId;
+            // One short transaction per batch so the backfill never holds locks on the whole table
+            List<RecruiterJob> batch = transactionTemplate.execute(status -> {
+                List<RecruiterJob> jobs = jobRepo.findStipendBackfillBatch(from, PageRequest.of(0, batchSize));
+                jobs.forEach(StipendParser::applyTo);
+                return jobs;
+            });
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            updated += batch.size();
+            afterId = batch.get(batch.size() - 1).getId();
+        }
+        if (updated > 0) {
+            logger.info("Backfilled stipend ranges for {} jobs", updated);
+        }
+    }
+}
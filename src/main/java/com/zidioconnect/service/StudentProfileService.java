@@ -2,9 +2,16 @@ package com.zidioconnect.service;
 
 import com.zidioconnect.dto.StudentProfileRequest;
 import com.zidioconnect.dto.StudentProfileResponse;
+import com.zidioconnect.event.StudentProfileChangedEvent;
 import com.zidioconnect.model.*;
 import com.zidioconnect.repository.StudentProfileRepository;
+import com.zidioconnect.util.GpaNormalizer;
 import org.springframework.beans.factory.annotation.Autowired;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.PersistenceContext;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.*;
@@ -14,6 +21,10 @@ import java.util.stream.Collectors;
 public class StudentProfileService {
     @Autowired
     private StudentProfileRepository profileRepo;
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+    @PersistenceContext
+    private EntityManager entityManager;
 
     public StudentProfileResponse getProfileByStudentId(Long studentId) {
         StudentProfile profile = profileRepo.findByStudentId(studentId).orElse(null);
@@ -28,6 +39,14 @@ public class StudentProfileService {
     @Transactional
     public StudentProfileResponse createOrUpdateProfile(Long studentId, StudentProfileRequest req, Student student) {
         StudentProfile profile = profileRepo.findByStudentId(studentId).orElse(new StudentProfile());
+        if (profile.getId() != null && req.version != null && req.version != profile.getVersion()) {
+            throw new ObjectOptimisticLockingFailureException(StudentProfile.class, profile.getId());
+        }
+        if (profile.getId() != null) {
+            // Skill/role/location changes alone don't dirty the profile row, so bump the version
+            // now (OPTIMISTIC_FORCE_INCREMENT would only bump at commit, after the response is built)
+            entityManager.lock(profile, LockModeType.PESSIMISTIC_FORCE_INCREMENT);
+        }
         profile.setStudent(student);
         profile.setFirstName(req.firstName);
         profile.setLastName(req.lastName);
@@ -37,6 +56,7 @@ public class StudentProfileService {
         profile.setCourse(req.course);
         profile.setYearOfStudy(req.yearOfStudy);
         profile.setGpa(req.gpa);
+        GpaNormalizer.applyTo(profile);
         profile.setAcademicAchievements(req.academicAchievements);
         profile.setLinkedinProfile(req.linkedinProfile);
         profile.setGithubProfile(req.githubProfile);
@@ -86,13 +106,17 @@ public class StudentProfileService {
                 profile.getPreferredLocations().add(l);
             }
         }
-        profile = profileRepo.save(profile);
-        return toResponse(profile);
+        profile = profileRepo.saveAndFlush(profile);
+        StudentProfileResponse resp = toResponse(profile);
+        eventPublisher.publishEvent(new StudentProfileChangedEvent(profile.getId(), resp.skills,
+                resp.preferredJobRoles, resp.preferredLocations));
+        return resp;
     }
 
     private StudentProfileResponse toResponse(StudentProfile profile) {
         StudentProfileResponse resp = new StudentProfileResponse();
         resp.id = profile.getId();
+        resp.version = profile.getVersion();
         resp.firstName = profile.getFirstName();
         resp.lastName = profile.getLastName();
         resp.email = profile.getEmail();
@@ -0,0 +1,139 @@
+package com.zidioconnect.service;
+
+import com.zidioconnect.dto.JobWithCompanyDTO;
+import com.zidioconnect.event.JobChangedEvent;
+import com.zidioconnect.repository.RecruiterJobRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * Ranks jobs by exponentially time-decayed application and view activity.
+ * Uses forward decay: an event at time t adds weight * e^(lambda * (t - landmark)),
+ * so older scores never need rewriting and the ordering stays correct as time passes.
+ * Each event is O(log n) on a sorted set; reading the top k is O(k).
+ */
+@Service
+public class TrendingJobService {
+    private static final double APPLICATION_WEIGHT = 5.0;
+    private static final double VIEW_WEIGHT = 1.0;
+    // Rebase before e^exponent gets anywhere near double overflow
+    private static final double MAX_EXPONENT = 50.0;
+
+    @Autowired
+    private RecruiterJobRepository jobRepo;
+
+    private final double lambdaPerMilli;
+    private final int maxTracked;
+    private long landmark = System.currentTimeMillis();
+    private final Map<Long, Double> scores = new HashMap<>();
+    private final TreeSet<Entry> ranking = new TreeSet<>(
+            Comparator.comparingDouble((Entry e) -> e.score).reversed().thenComparing(e -> e.jobId));
+
+    public static class Trending {
+        public final Long jobId;
+        public final double score;
+
+        Trending(Long jobId, double score) {
+            this.jobId = jobId;
+            this.score = score;
+        }
+    }
+
+    private static class Entry {
+        final Long jobId;
+        final double score;
+
+        Entry(Long jobId, double score) {
+            this.jobId = jobId;
+            this.score = score;
+        }
+    }
+
+    public TrendingJobService(@Value("${jobs.trending.half-life-hours:24}") double halfLifeHours,
+            @Value("${jobs.trending.max-tracked:10000}") int maxTracked) {
+        this.lambdaPerMilli = Math.log(2) / (halfLifeHours * 3_600_000);
+        this.maxTracked = maxTracked;
+    }
+
+    public void recordApplication(Long jobId) {
+        record(jobId, APPLICATION_WEIGHT, System.currentTimeMillis());
+    }
+
+    public void recordView(Long jobId) {
+        record(jobId, VIEW_WEIGHT, System.currentTimeMillis());
+    }
+
+    // Scores are reported as decayed to "now" so they read as current activity rates
+    public synchronized List<Trending> top(int k) {
+        double decay = Math.exp(-lambdaPerMilli * (System.currentTimeMillis() - landmark));
+        List<Trending> result = new ArrayList<>(k);
+        Iterator<Entry> it = ranking.iterator();
+        while (it.hasNext() && result.size() < k) {
+            Entry entry = it.next();
+            result.add(new Trending(entry.jobId, entry.score * decay));
+        }
+        return result;
+    }
+
+    @EventListener
+    public void onJobChanged(JobChangedEvent event) {
+        synchronized (this) {
+            if (!scores.containsKey(event.getJobId())) {
+                return;
+            }
+        }
+        boolean approved = false;
+        if (event.getType() != JobChangedEvent.Type.DELETED) {
+            List<JobWithCompanyDTO> rows = jobRepo.findWithCompanyByIdIn(List.of(event.getJobId()));
+            approved = !rows.isEmpty() && "APPROVED".equals(rows.get(0).adminApprovalStatus);
+        }
+        if (!approved) {
+            remove(event.getJobId());
+        }
+    }
+
+    private synchronized void record(Long jobId, double weight, long now) {
+        double exponent = lambdaPerMilli * (now - landmark);
+        if (exponent > MAX_EXPONENT) {
+            rebase(now);
+            exponent = 0;
+        }
+        Double previous = scores.get(jobId);
+        double score = (previous != null ? previous : 0) + weight * Math.exp(exponent);
+        if (previous != null) {
+            ranking.remove(new Entry(jobId, previous));
+        }
+        scores.put(jobId, score);
+        ranking.add(new Entry(jobId, score));
+        if (ranking.size() > maxTracked) {
+            Entry coldest = ranking.pollLast();
+            scores.remove(coldest.jobId);
+        }
+    }
+
+    private synchronized void remove(Long jobId) {
+        Double previous = scores.remove(jobId);
+        if (previous != null) {
+            ranking.remove(new Entry(jobId, previous));
+        }
+    }
+
+    // Moves the landmark to `now`, scaling every score down by the same factor (order is unchanged)
+    private void rebase(long now) {
+        double factor = Math.exp(-lambdaPerMilli * (now - landmark));
+        landmark = now;
+        ranking.clear();
+        scores.replaceAll((jobId, score) -> score * factor);
+        scores.forEach((jobId, score) -> ranking.add(new Entry(jobId, score)));
+    }
+}
@@ -0,0 +1,120 @@
+package com.zidioconnect.util;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Prefix trie with popularity weights. Every node tracks the highest weight in
+ * its subtree, so top-N completions are found best-first without walking the
+ * whole subtree under the prefix. Not thread-safe; callers synchronise.
+ */
+public class CompletionTrie {
+    private final Node root = new Node(null);
+
+    public static class Completion {
+        public final String text;
+        public final int weight;
+
+        Completion(String text, int weight) {
+            this.text = text;
+            this.weight = weight;
+        }
+    }
+
+    private static class Node {
+        final Node parent;
+        final Map<Character, Node> children = new HashMap<>(4);
+        String text; // display form, set while weight > 0
+        int weight;
+        int maxWeight;
+
+        Node(Node parent) {
+            this.parent = parent;
+        }
+    }
+
+    // Queue entry: either a subtree bounded by its maxWeight, or a finished completion
+    private static class Candidate {
+        final Node node;
+        final boolean terminal;
+        final int priority;
+
+        Candidate(Node node, boolean terminal, int priority) {
+            this.node = node;
+            this.terminal = terminal;
+            this.priority = priority;
+        }
+    }
+
+    public void add(String text, int delta) {
+        String key = normalize(text);
+        if (key.isEmpty()) {
+            return;
+        }
+        Node node = root;
+        for (int i = 0; i < key.length(); i++) {
+            Node current = node;
+            node = node.children.computeIfAbsent(key.charAt(i), c -> new Node(current));
+        }
+        node.weight = Math.max(0, node.weight + delta);
+        if (node.weight == 0) {
+            node.text = null;
+        } else if (node.text == null) {
+            node.text = text.trim();
+        }
+        // Walk back up refreshing subtree maxima and pruning dead branches
+        for (int i = key.length() - 1; i >= 0; i--) {
+            Node parent = node.parent;
+            node.maxWeight = node.weight;
+            for (Node child : node.children.values()) {
+                node.maxWeight = Math.max(node.maxWeight, child.maxWeight);
+            }
+            if (node.maxWeight == 0 && node.children.isEmpty()) {
+                parent.children.remove(key.charAt(i));
+            }
+            node = parent;
+        }
+        root.maxWeight = 0;
+        for (Node child : root.children.values()) {
+            root.maxWeight = Math.max(root.maxWeight, child.maxWeight);
+        }
+    }
+
+    public List<Completion> complete(String prefix, int limit) {
+        List<Completion> results = new ArrayList<>(limit);
+        String key = normalize(prefix);
+        Node node = root;
+        for (int i = 0; i < key.length() && node != null; i++) {
+            node = node.children.get(key.charAt(i));
+        }
+        if (node == null || node.maxWeight == 0) {
+            return results;
+        }
+        PriorityQueue<Candidate> queue = new PriorityQueue<>((a, b) -> Integer.compare(b.priority, a.priority));
+        queue.add(new Candidate(node, false, node.maxWeight));
+        while (!queue.isEmpty() && results.size() < limit) {
+            Candidate candidate = queue.poll();
+            if (candidate.terminal) {
+                results.add(new Completion(candidate.node.text, candidate.node.weight));
+                continue;
+            }
+            if (candidate.node.weight > 0) {
+                queue.add(new Candidate(candidate.node, true, candidate.node.weight));
+            }
+            for (Node child : candidate.node.children.values()) {
+                if (child.maxWeight > 0) {
+                    queue.add(new Candidate(child, false, child.maxWeight));
+                }
+            }
+        }
+        return results;
+    }
+
+    private static String normalize(String text) {
+        return text == null ? "" : text.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,53 @@
+package com.zidioconnect.util;
+
+import com.zidioconnect.model.StudentProfile;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Normalises free-text GPA strings such as "3.6", "8.5/10", "8.5 CGPA" or "85%" onto
+ * a 0-1 scale, so applicants can be sorted and scored by GPA whatever scale they used.
+ */
+public class GpaNormalizer {
+    private static final Pattern GPA = Pattern.compile("(\\d+(?:\\.\\d+)?)\\s*(?:/\\s*(\\d+(?:\\.\\d+)?))?\\s*(%)?");
+
+    private GpaNormalizer() {
+    }
+
+    /**
+     * @return the GPA on a 0-1 scale; 0 when the text has no usable number, null when it is blank
+     */
+    public static Double normalize(String gpa) {
+        if (gpa == null || gpa.isBlank()) {
+            return null;
+        }
+        Matcher m = GPA.matcher(gpa);
+        if (!m.find()) {
+            return 0.0;
+        }
+        double value = Double.parseDouble(m.group(1));
+        if (value <= 0) {
+            return 0.0;
+        }
+        if (m.group(2) != null) {
+            double scale = Double.parseDouble(m.group(2));
+            return scale > 0 ? Math.min(value / scale, 1.0) : 0.0;
+        }
+        if (m.group(3) != null) {
+            return Math.min(value, 100.0) / 100.0;
+        }
+        // No explicit scale: guess 4-point, 10-point or percentage from the magnitude
+        if (value <= 4.0) {
+            return value / 4.0;
+        }
+        if (value <= 10.0) {
+            return value / 10.0;
+        }
+        return Math.min(value, 100.0) / 100.0;
+    }
+
+    public static void applyTo(StudentProfile profile) {
+        profile.setGpaNormalized(normalize(profile.getGpa()));
+    }
+}
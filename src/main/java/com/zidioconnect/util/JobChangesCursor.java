@@ -0,0 +1,73 @@
+package com.zidioconnect.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Opaque delta-sync position. Upserts and tombstones are read as two independent
+ * keyset streams, ordered by (updatedAt, jobId) and (removedAt, tombstoneId), so the
+ * cursor carries the last row seen in each. Rows that share a timestamp are never
+ * skipped because the id breaks the tie.
+ */
+public class JobChangesCursor {
+    private final LocalDateTime updatedAt;
+    private final Long jobId;
+    private final LocalDateTime removedAt;
+    private final Long tombstoneId;
+
+    public JobChangesCursor(LocalDateTime updatedAt, Long jobId, LocalDateTime removedAt, Long tombstoneId) {
+        this.updatedAt = updatedAt;
+        this.jobId = jobId;
+        this.removedAt = removedAt;
+        this.tombstoneId = tombstoneId;
+    }
+
+    // Starting position for a client that only has a timestamp; rows at exactly `since` are included
+    public static JobChangesCursor since(LocalDateTime since) {
+        return new JobChangesCursor(since, 0L, since, 0L);
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+
+    public LocalDateTime getRemovedAt() {
+        return removedAt;
+    }
+
+    public Long getTombstoneId() {
+        return tombstoneId;
+    }
+
+    public String encode() {
+        String raw = updatedAt + "_" + jobId + "_" + removedAt + "_" + tombstoneId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the decoded cursor, or null when no cursor was supplied
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static JobChangesCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            String[] parts = raw.split("_");
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            return new JobChangesCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]),
+                    LocalDateTime.parse(parts[2]), Long.parseLong(parts[3]));
+        } catch (DateTimeParseException | NumberFormatException e) {
+            throw new IllegalArgumentException("Invalid cursor", e);
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package com.zidioconnect.util;
+
+import com.zidioconnect.model.RecruiterJob;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Normalises free-text stipend/salary strings such as "₹10,000 - 15,000/month",
+ * "10k-15k per month", "4.5 LPA" or "Unpaid" into a monthly min/max amount,
+ * a currency code and the period the text was quoted in.
+ */
+public class StipendParser {
+    public static final String PERIOD_MONTH = "MONTH";
+    public static final String PERIOD_YEAR = "YEAR";
+    public static final String PERIOD_WEEK = "WEEK";
+    public static final String PERIOD_HOUR = "HOUR";
+    public static final String PERIOD_UNPAID = "UNPAID";
+    // Marks rows that were parsed but had no usable amount, so the backfill does not revisit them
+    public static final String PERIOD_UNKNOWN = "UNKNOWN";
+
+    private static final Pattern AMOUNT = Pattern.compile(
+            "(?<!\\d|\\d[.,])(\\d+(?:,\\d+)*(?:\\.\\d+)?)(?![.,]?\\d)\\s*(k|lakhs?|lacs?|l(?=pa\\b)|crores?|cr)?\\b");
+    // Internship lengths such as "6 months" or "3-6 months"; removed before amounts and period are read
+    private static final Pattern DURATION = Pattern.compile(
+            "(?<!\\d|\\d[.,])\\d+(?:\\.\\d+)?\\s*(?:(?:-|to)\\s*\\d+(?:\\.\\d+)?\\s*)?"
+                    + "(?:months?|weeks?|years?|days?|hours?|hrs?)\\b");
+    private static final Pattern USD = Pattern.compile("\\$|\\busd\\b");
+    private static final Pattern EUR = Pattern.compile("\u20ac|\\beur(?:os?)?\\b");
+    private static final Pattern GBP = Pattern.compile("\u00a3|\\bgbp\\b");
+
+    public static class Parsed {
+        public Long minMonthly;
+        public Long maxMonthly;
+        public String currency;
+        public String period;
+    }
+
+    private StipendParser() {
+    }
+
+    public static Parsed parse(String text) {
+        Parsed parsed = new Parsed();
+        if (text == null || text.isBlank()) {
+            return parsed;
+        }
+        String lower = text.toLowerCase(Locale.ROOT);
+        if (lower.contains("unpaid") || lower.contains("no stipend")) {
+            parsed.minMonthly = 0L;
+            parsed.maxMonthly = 0L;
+            parsed.period = PERIOD_UNPAID;
+            return parsed;
+        }
+        lower = DURATION.matcher(lower).replaceAll(" ");
+
+        List<Double> amounts = new ArrayList<>();
+        Matcher matcher = AMOUNT.matcher(lower);
+        while (matcher.find() && amounts.size() < 2) {
+            double value = Double.parseDouble(matcher.group(1).replace(",", ""));
+            amounts.add(value * multiplier(matcher.group(2), lower));
+        }
+        if (amounts.isEmpty()) {
+            parsed.period = PERIOD_UNKNOWN;
+            return parsed;
+        }
+
+        parsed.currency = currency(lower);
+        parsed.period = period(lower);
+        double min = amounts.get(0);
+        double max = amounts.size() > 1 ? amounts.get(1) : min;
+        if (min > max) {
+            double swap = min;
+            min = max;
+            max = swap;
+        }
+        parsed.minMonthly = Math.round(toMonthly(min, parsed.period));
+        parsed.maxMonthly = Math.round(toMonthly(max, parsed.period));
+        return parsed;
+    }
+
+    public static void applyTo(RecruiterJob job) {
+        Parsed parsed = parse(job.getStipendSalary());
+        job.setStipendMinMonthly(parsed.minMonthly);
+        job.setStipendMaxMonthly(parsed.maxMonthly);
+        job.setStipendCurrency(parsed.currency);
+        job.setStipendPeriod(parsed.period);
+    }
+
+    private static double multiplier(String suffix, String text) {
+        if (suffix == null) {
+            // "5-7 LPA" quotes lakhs without a per-number suffix
+            return text.contains("lpa") ? 100_000 : 1;
+        }
+        if (suffix.equals("k")) {
+            return 1_000;
+        }
+        if (suffix.startsWith("cr")) {
+            return 10_000_000;
+        }
+        return 100_000;
+    }
+
+    // Currency codes must be whole words, so "Europe" or "neural" do not read as EUR
+    private static String currency(String text) {
+        if (USD.matcher(text).find()) {
+            return "USD";
+        }
+        if (EUR.matcher(text).find()) {
+            return "EUR";
+        }
+        if (GBP.matcher(text).find()) {
+            return "GBP";
+        }
+        return "INR";
+    }
+
+    private static String period(String text) {
+        if (text.contains("lpa") || text.contains("annum") || text.contains("year") || text.contains("/yr")
+                || text.contains("p.a") || text.contains("ctc")) {
+            return PERIOD_YEAR;
+        }
+        if (text.contains("week")) {
+            return PERIOD_WEEK;
+        }
+        if (text.contains("hour") || text.contains("/hr")) {
+            return PERIOD_HOUR;
+        }
+        return PERIOD_MONTH;
+    }
+
+    private static double toMonthly(double amount, String period) {
+        switch (period) {
+            case PERIOD_YEAR:
+                return amount / 12;
+            case PERIOD_WEEK:
+                return amount * 52 / 12;
+            case PERIOD_HOUR:
+                return amount * 160;
+            default:
+                return amount;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.zidioconnect.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Tokenizer shared by the in-memory job indexes. Lowercases, splits on anything
+ * that is not a letter, digit, '+' or '#' (so "c++" and "c#" survive), drops
+ * English stop words and applies a light suffix-stripping stemmer.
+ */
+public class TextAnalyzer {
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "are", "as", "at", "be", "by", "for", "from", "has", "have", "in", "is", "it",
+            "its", "of", "on", "or", "our", "that", "the", "their", "this", "to", "was", "we", "will", "with",
+            "you", "your", "who", "what", "should", "can", "must", "etc", "per", "all", "any");
+
+    private TextAnalyzer() {
+    }
+
+    public static List<String> analyze(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+        for (String token : split(text)) {
+            if (!STOP_WORDS.contains(token)) {
+                terms.add(stem(token));
+            }
+        }
+        return terms;
+    }
+
+    // Lowercased raw tokens, without stop word removal or stemming
+    public static List<String> split(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null) {
+            return tokens;
+        }
+        StringBuilder current = new StringBuilder();
+        String lower = text.toLowerCase(Locale.ROOT);
+        for (int i = 0; i <= lower.length(); i++) {
+            char c = i < lower.length() ? lower.charAt(i) : ' ';
+            if (Character.isLetterOrDigit(c) || c == '+' || c == '#') {
+                current.append(c);
+            } else if (current.length() > 0) {
+                tokens.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        return tokens;
+    }
+
+    public static String stem(String token) {
+        if (token.length() <= 3 || !Character.isLetter(token.charAt(token.length() - 1))) {
+            return token;
+        }
+        String t = token;
+        if (t.endsWith("ies") && t.length() > 4) {
+            t = t.substring(0, t.length() - 3) + "y";
+        } else if (t.endsWith("sses")) {
+            t = t.substring(0, t.length() - 2);
+        } else if (t.endsWith("s") && !t.endsWith("ss") && !t.endsWith("us") && !t.endsWith("is")) {
+            t = t.substring(0, t.length() - 1);
+        }
+        if (t.endsWith("ing") && t.length() > 5) {
+            t = undouble(t.substring(0, t.length() - 3));
+        } else if (t.endsWith("ed") && t.length() > 4) {
+            t = undouble(t.substring(0, t.length() - 2));
+        } else if (t.endsWith("ly") && t.length() > 4) {
+            t = t.substring(0, t.length() - 2);
+        }
+        return t;
+    }
+
+    private static String undouble(String t) {
+        int n = t.length();
+        if (n > 2 && t.charAt(n - 1) == t.charAt(n - 2) && "lsz".indexOf(t.charAt(n - 1)) < 0) {
+            return t.substring(0, n - 1);
+        }
+        return t;
+    }
+}
@@ -0,0 +1,72 @@
+package com.zidioconnect.repository;
+
+import com.zidioconnect.dto.JobWithCompanyDTO;
+import com.zidioconnect.model.Recruiter;
+import com.zidioconnect.model.RecruiterJob;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// The job feeds must stay at one statement however many jobs and recruiters they return
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.generate_statistics=true" })
+class RecruiterJobRepositoryTest {
+    @Autowired
+    private TestEntityManager entityManager;
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+    @Autowired
+    private RecruiterJobRepository jobRepo;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        for (int r = 0; r < 3; r++) {
+            Recruiter recruiter = new Recruiter();
+            recruiter.setEmail("recruiter" + r + "@example.com");
+            recruiter.setCompany("Company " + r);
+            entityManager.persist(recruiter);
+            for (int j = 0; j < 4; j++) {
+                RecruiterJob job = new RecruiterJob();
+                job.setRecruiter(recruiter);
+                job.setTitle("Job " + r + "-" + j);
+                job.setAdminApprovalStatus("APPROVED");
+                entityManager.persist(job);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void allJobsWithCompanyIsOneStatement() {
+        List<JobWithCompanyDTO> jobs = jobRepo.findAllWithCompany();
+
+        assertThat(jobs).hasSize(12);
+        assertThat(jobs).allSatisfy(job -> assertThat(job.companyName).startsWith("Company "));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+
+    @Test
+    void approvedFeedPageIsOneStatement() {
+        List<JobWithCompanyDTO> page = jobRepo.findFirstPageByStatus("APPROVED", PageRequest.of(0, 10));
+
+        assertThat(page).hasSize(10);
+        assertThat(page).allSatisfy(job -> assertThat(job.companyName).isNotNull());
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+    }
+}
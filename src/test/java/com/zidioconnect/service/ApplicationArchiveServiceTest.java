@@ -0,0 +1,83 @@
+package com.zidioconnect.service;
+
+import com.zidioconnect.repository.RecruiterJobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationArchiveServiceTest {
+    @Mock
+    private RecruiterJobRepository jobRepo;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @InjectMocks
+    private ApplicationArchiveService service;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "batchSize", 2);
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        doAnswer(inv -> {
+            inv.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    void copiesEachChunkBeforeDeletingItAndFlagsTheJobLast() {
+        when(jdbcTemplate.queryForList(startsWith("SELECT id FROM applications "), eq(Long.class), eq(5L), eq(2)))
+                .thenReturn(List.of(10L, 11L), List.of(12L), List.of());
+
+        assertThat(service.archiveJob(5L)).isEqualTo(3);
+
+        InOrder order = inOrder(jdbcTemplate, jobRepo);
+        order.verify(jdbcTemplate).update(startsWith("INSERT INTO applications_archive"), eq(10L), eq(11L));
+        order.verify(jdbcTemplate).update(startsWith("INSERT INTO application_certificates_archive"), eq(10L),
+                eq(11L));
+        order.verify(jdbcTemplate).update("DELETE FROM applications WHERE id IN (?,?)", 10L, 11L);
+        order.verify(jdbcTemplate).update(startsWith("INSERT INTO applications_archive"), eq(12L));
+        order.verify(jdbcTemplate).update("DELETE FROM applications WHERE id IN (?)", 12L);
+        order.verify(jobRepo).markApplicationsArchived(eq(5L), any());
+    }
+
+    @Test
+    void failedJobIsLeftUnflaggedAndTheRunContinues() {
+        when(jobRepo.findIdsToArchive(any())).thenReturn(List.of(5L, 6L));
+        when(jdbcTemplate.queryForList(startsWith("SELECT id FROM applications "), eq(Long.class), eq(5L), eq(2)))
+                .thenThrow(new QueryTimeoutException("lock wait timeout"));
+        when(jdbcTemplate.queryForList(startsWith("SELECT id FROM applications "), eq(Long.class), eq(6L), eq(2)))
+                .thenReturn(List.of());
+
+        service.archiveClosedJobs();
+
+        verify(jobRepo, never()).markApplicationsArchived(eq(5L), any());
+        verify(jobRepo).markApplicationsArchived(eq(6L), any());
+    }
+}
@@ -0,0 +1,84 @@
+package com.zidioconnect.service;
+
+import com.zidioconnect.model.ApplicationStatusEvent;
+import com.zidioconnect.repository.JobApplicationCounterRepository;
+import com.zidioconnect.repository.RecruiterJobRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationCounterServiceTest {
+    @Mock
+    private JobApplicationCounterRepository counterRepository;
+    @Mock
+    private RecruiterJobRepository recruiterJobRepository;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @InjectMocks
+    private ApplicationCounterService service;
+
+    @Test
+    void reconcileWalksJobsMissingACountInBatches() {
+        ReflectionTestUtils.setField(service, "reconcileBatchSize", 2);
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(recruiterJobRepository.findIdsMissingApplicantCount(0L, 2)).thenReturn(List.of(3L, 7L));
+        when(recruiterJobRepository.findIdsMissingApplicantCount(7L, 2)).thenReturn(List.of(9L));
+        when(recruiterJobRepository.findIdsMissingApplicantCount(9L, 2)).thenReturn(List.of());
+
+        service.reconcileApplicantCounts();
+
+        verify(recruiterJobRepository).reconcileApplicantCounts(List.of(3L, 7L));
+        verify(recruiterJobRepository).reconcileApplicantCounts(List.of(9L));
+    }
+
+    @Test
+    void reconcileIsANoOpOnceCountsAreFilled() {
+        ReflectionTestUtils.setField(service, "reconcileBatchSize", 500);
+        when(recruiterJobRepository.findIdsMissingApplicantCount(anyLong(), anyInt())).thenReturn(List.of());
+
+        service.reconcileApplicantCounts();
+
+        verify(recruiterJobRepository, never()).reconcileApplicantCounts(any());
+        verifyNoInteractions(transactionTemplate);
+    }
+
+    @Test
+    void transitionsMoveOneApplicationBetweenStatuses() {
+        service.recordTransitions(List.of(
+                new ApplicationStatusEvent(1L, 5L, "APPLIED", "SHORTLISTED", "r"),
+                new ApplicationStatusEvent(2L, 5L, "APPLIED", "SHORTLISTED", "r"),
+                new ApplicationStatusEvent(3L, 6L, null, "APPLIED", null)));
+
+        verify(counterRepository).add(5L, "APPLIED", -2L);
+        verify(counterRepository).add(5L, "SHORTLISTED", 2L);
+        verify(counterRepository).add(6L, "APPLIED", 1L);
+        verifyNoMoreInteractions(counterRepository);
+    }
+
+    @Test
+    void transitionsThatCancelOutWriteNothing() {
+        service.recordTransitions(List.of(
+                new ApplicationStatusEvent(1L, 5L, "APPLIED", "SHORTLISTED", "r"),
+                new ApplicationStatusEvent(1L, 5L, "SHORTLISTED", "APPLIED", "r")));
+
+        verifyNoInteractions(counterRepository);
+    }
+}
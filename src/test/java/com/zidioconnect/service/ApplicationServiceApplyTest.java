@@ -0,0 +1,180 @@
+package com.zidioconnect.service;
+
+import com.zidioconnect.dto.ApplicationRequest;
+import com.zidioconnect.model.Application;
+import com.zidioconnect.model.RecruiterJob;
+import com.zidioconnect.repository.ApplicationRepository;
+import com.zidioconnect.repository.ApplicationStatusEventRepository;
+import com.zidioconnect.repository.RecruiterJobRepository;
+import com.zidioconnect.repository.StudentProfileRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationServiceApplyTest {
+    private static final Long PROFILE_ID = 3L;
+    private static final Long JOB_ID = 8L;
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+    @Mock
+    private StudentProfileRepository studentProfileRepository;
+    @Mock
+    private RecruiterJobRepository recruiterJobRepository;
+    @Mock
+    private ApplicationStatusEventRepository statusEventRepository;
+    @Mock
+    private ApplicationCounterService applicationCounterService;
+    @Mock
+    private TrendingJobService trendingJobService;
+    @Mock
+    private ApplicantScoringService applicantScoringService;
+    @Mock
+    private ApplyRateLimiter applyRateLimiter;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @InjectMocks
+    private ApplicationService service;
+
+    @Test
+    void idempotentReplayDoesNotSpendAToken() {
+        Application previous = application(41L);
+        when(applicationRepository.findByStudentProfile_IdAndIdempotencyKey(PROFILE_ID, "key-1"))
+                .thenReturn(Optional.of(previous));
+
+        assertThat(service.apply(request(), PROFILE_ID, "key-1")).isSameAs(previous);
+
+        verifyNoInteractions(applyRateLimiter);
+    }
+
+    @Test
+    void duplicateSubmitDoesNotSpendAToken() {
+        Application previous = application(41L);
+        when(applicationRepository.findByStudentProfile_IdAndJob_Id(PROFILE_ID, JOB_ID))
+                .thenReturn(Optional.of(previous));
+
+        assertThat(service.apply(request(), PROFILE_ID, null)).isSameAs(previous);
+
+        verifyNoInteractions(applyRateLimiter);
+    }
+
+    @Test
+    void closedJobDoesNotSpendAToken() {
+        RecruiterJob job = job();
+        job.setClosedAt(LocalDateTime.now());
+        when(applicationRepository.findByStudentProfile_IdAndJob_Id(PROFILE_ID, JOB_ID)).thenReturn(Optional.empty());
+        when(recruiterJobRepository.findById(JOB_ID)).thenReturn(Optional.of(job));
+
+        assertThatThrownBy(() -> service.apply(request(), PROFILE_ID, null)).isInstanceOf(JobClosedException.class);
+
+        verifyNoInteractions(applyRateLimiter);
+    }
+
+    @Test
+    void capacityRejectionGivesTheTokenBack() {
+        givenOpenJob();
+        when(applyRateLimiter.tryAcquire(PROFILE_ID)).thenReturn(0L);
+        givenTransactions();
+        when(recruiterJobRepository.tryIncrementApplicantCount(JOB_ID)).thenReturn(0);
+
+        assertThatThrownBy(() -> service.apply(request(), PROFILE_ID, null))
+                .isInstanceOf(JobCapacityExceededException.class);
+
+        verify(applyRateLimiter).release(PROFILE_ID);
+        verify(applicationRepository, never()).save(any());
+    }
+
+    @Test
+    void lostDuplicateRaceGivesTheTokenBack() {
+        Application winner = application(42L);
+        when(applicationRepository.findByStudentProfile_IdAndJob_Id(PROFILE_ID, JOB_ID))
+                .thenReturn(Optional.empty(), Optional.of(winner));
+        when(recruiterJobRepository.findById(JOB_ID)).thenReturn(Optional.of(job()));
+        when(applyRateLimiter.tryAcquire(PROFILE_ID)).thenReturn(0L);
+        givenTransactions();
+        when(recruiterJobRepository.tryIncrementApplicantCount(JOB_ID)).thenReturn(1);
+        when(applicationRepository.save(any()))
+                .thenThrow(new DataIntegrityViolationException("uk_applications_student_job"));
+
+        assertThat(service.apply(request(), PROFILE_ID, null)).isSameAs(winner);
+
+        verify(applyRateLimiter).release(PROFILE_ID);
+    }
+
+    @Test
+    void newApplicationKeepsItsToken() {
+        givenOpenJob();
+        when(applyRateLimiter.tryAcquire(PROFILE_ID)).thenReturn(0L);
+        givenTransactions();
+        when(recruiterJobRepository.tryIncrementApplicantCount(JOB_ID)).thenReturn(1);
+        when(applicationRepository.save(any())).thenAnswer(inv -> {
+            Application inserted = inv.getArgument(0);
+            inserted.setId(43L);
+            return inserted;
+        });
+
+        assertThat(service.apply(request(), PROFILE_ID, null).getId()).isEqualTo(43L);
+
+        verify(applyRateLimiter, never()).release(any());
+    }
+
+    @Test
+    void exhaustedBucketIsRejectedBeforeInserting() {
+        givenOpenJob();
+        when(applyRateLimiter.tryAcquire(PROFILE_ID)).thenReturn(120L);
+
+        assertThatThrownBy(() -> service.apply(request(), PROFILE_ID, null))
+                .isInstanceOf(ApplyRateLimitedException.class)
+                .extracting(e -> ((ApplyRateLimitedException) e).getRetryAfterSeconds())
+                .isEqualTo(120L);
+
+        verifyNoInteractions(transactionTemplate);
+        verify(applyRateLimiter, never()).release(any());
+    }
+
+    private void givenOpenJob() {
+        when(applicationRepository.findByStudentProfile_IdAndJob_Id(PROFILE_ID, JOB_ID)).thenReturn(Optional.empty());
+        when(recruiterJobRepository.findById(JOB_ID)).thenReturn(Optional.of(job()));
+    }
+
+    private void givenTransactions() {
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    private static ApplicationRequest request() {
+        ApplicationRequest request = new ApplicationRequest();
+        request.jobId = JOB_ID;
+        return request;
+    }
+
+    private static RecruiterJob job() {
+        RecruiterJob job = new RecruiterJob();
+        job.setId(JOB_ID);
+        job.setAdminApprovalStatus("APPROVED");
+        return job;
+    }
+
+    private static Application application(Long id) {
+        Application application = new Application();
+        application.setId(id);
+        return application;
+    }
+}
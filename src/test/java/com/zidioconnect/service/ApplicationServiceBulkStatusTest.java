@@ -0,0 +1,72 @@
+package com.zidioconnect.service;
+
+import com.zidioconnect.dto.BulkStatusUpdateResponse;
+import com.zidioconnect.model.ApplicationStatusEvent;
+import com.zidioconnect.repository.ApplicationRepository;
+import com.zidioconnect.repository.ApplicationStatusEventRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationServiceBulkStatusTest {
+    private static final Long RECRUITER_ID = 10L;
+
+    @Mock
+    private ApplicationRepository applicationRepository;
+    @Mock
+    private ApplicationStatusEventRepository statusEventRepository;
+    @Mock
+    private ApplicationCounterService applicationCounterService;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @InjectMocks
+    private ApplicationService service;
+
+    @Test
+    void eventsAndCountersComeFromTheLockedRows() {
+        when(applicationRepository.lockOwnershipByIdIn(any())).thenReturn(List.of(
+                new Object[] { 1L, RECRUITER_ID, "APPLIED", 5L },
+                new Object[] { 2L, RECRUITER_ID, "SHORTLISTED", 5L },
+                new Object[] { 3L, 99L, "APPLIED", 6L }));
+        when(applicationRepository.updateStatusByIdIn(any(), any())).thenReturn(2);
+
+        BulkStatusUpdateResponse resp = service.bulkUpdateStatus(RECRUITER_ID, List.of(1L, 2L, 3L, 4L, 1L),
+                "SHORTLISTED", "recruiter@example.com");
+
+        assertThat(resp.updated).isEqualTo(2);
+        assertThat(resp.results.stream().map(r -> r.applicationId + ":" + r.outcome).toList())
+                .containsExactly("1:UPDATED", "2:UPDATED", "3:FORBIDDEN", "4:NOT_FOUND");
+        verify(applicationRepository).updateStatusByIdIn(Set.of(1L, 2L), "SHORTLISTED");
+
+        // Application 2 was already SHORTLISTED, so only application 1 moves a counter
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<ApplicationStatusEvent>> events = ArgumentCaptor.forClass(List.class);
+        verify(applicationCounterService).recordTransitions(events.capture());
+        assertThat(events.getValue()).hasSize(1);
+        ApplicationStatusEvent event = events.getValue().get(0);
+        assertThat(event.getApplicationId()).isEqualTo(1L);
+        assertThat(event.getJobId()).isEqualTo(5L);
+        assertThat(event.getFromStatus()).isEqualTo("APPLIED");
+        assertThat(event.getToStatus()).isEqualTo("SHORTLISTED");
+        verify(jdbcTemplate).update(startsWith("INSERT INTO application_events"), eq(1L), eq(5L), eq("APPLIED"),
+                eq("SHORTLISTED"), eq("recruiter@example.com"), any(Timestamp.class));
+        verifyNoInteractions(statusEventRepository);
+    }
+}
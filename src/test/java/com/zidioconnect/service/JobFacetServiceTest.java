@@ -0,0 +1,95 @@
+package com.zidioconnect.service;
+
+import com.zidioconnect.dto.JobWithCompanyDTO;
+import com.zidioconnect.event.JobChangedEvent;
+import com.zidioconnect.repository.RecruiterJobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JobFacetServiceTest {
+    private static final LocalDateTime T = LocalDateTime.of(2024, 3, 1, 12, 0);
+
+    @Mock
+    private RecruiterJobRepository jobRepo;
+    @InjectMocks
+    private JobFacetService service;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "compactMinRemoved", 2);
+        List<JobWithCompanyDTO> jobs = new ArrayList<>();
+        for (long id = 1; id <= 6; id++) {
+            jobs.add(job(id, id % 2 == 0 ? "Remote" : "Pune"));
+        }
+        when(jobRepo.findWithCompanyByStatus("APPROVED")).thenReturn(jobs);
+        service.buildIndex();
+    }
+
+    @Test
+    void removalsCompactTheIndexOnceTheyOutnumberLiveJobs() {
+        delete(1L);
+        delete(2L);
+        assertThat(jobIdList()).hasSize(6);
+
+        delete(3L);
+        assertThat(jobIdList()).containsExactly(4L, 5L, 6L);
+
+        JobFacetService.Result result = service.filter(Map.of("location", List.of("remote")), null, 10);
+        assertThat(result.jobIds).containsExactly(6L, 4L);
+        assertThat(result.total).isEqualTo(2);
+    }
+
+    @Test
+    void cursorIssuedBeforeCompactionResumesAfterIt() {
+        JobFacetService.Result first = service.filter(Map.of(), null, 2);
+        assertThat(first.jobIds).containsExactly(6L, 5L);
+
+        delete(1L);
+        delete(2L);
+        delete(3L);
+        delete(5L);
+
+        JobFacetService.Result second = service.filter(Map.of(), first.nextCursor, 2);
+        assertThat(second.jobIds).containsExactly(4L);
+        assertThat(second.nextCursor).isNull();
+    }
+
+    @Test
+    void cursorFromAnUnknownGenerationIsRejected() {
+        assertThatThrownBy(() -> service.filter(Map.of(), "99.3", 10)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> service.filter(Map.of(), "3", 10)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> jobIdList() {
+        return (List<Long>) ReflectionTestUtils.getField(service, "jobIds");
+    }
+
+    private void delete(Long id) {
+        service.onJobChanged(new JobChangedEvent(id, JobChangedEvent.Type.DELETED));
+    }
+
+    private static JobWithCompanyDTO job(Long id, String location) {
+        JobWithCompanyDTO job = new JobWithCompanyDTO();
+        job.id = id;
+        job.adminApprovalStatus = "APPROVED";
+        job.location = location;
+        job.createdAt = T.plusMinutes(id);
+        return job;
+    }
+}
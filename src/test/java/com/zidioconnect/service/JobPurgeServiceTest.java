@@ -0,0 +1,68 @@
+package com.zidioconnect.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JobPurgeServiceTest {
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @InjectMocks
+    private JobPurgeService service;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "batchSize", 2);
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        doAnswer(inv -> {
+            inv.<Consumer<TransactionStatus>>getArgument(0).accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @Test
+    void purgesLiveAndArchivedApplicationsBeforeTheJobRow() {
+        when(jdbcTemplate.queryForList(startsWith("SELECT id FROM applications "), eq(Long.class), eq(9L), eq(2)))
+                .thenReturn(List.of(1L, 2L), List.of(4L), List.of());
+        when(jdbcTemplate.queryForList(startsWith("SELECT id FROM applications_archive "), eq(Long.class), eq(9L),
+                eq(2))).thenReturn(List.of(3L), List.of());
+
+        service.purgeJob(9L);
+
+        verify(jdbcTemplate).update("DELETE FROM messages WHERE application_id IN (?,?)", 1L, 2L);
+        verify(jdbcTemplate).update("DELETE FROM application_certificates WHERE application_id IN (?)", 4L);
+        verify(jdbcTemplate).update("DELETE FROM messages WHERE application_id IN (?)", 3L);
+        verify(jdbcTemplate).update("DELETE FROM application_certificates_archive WHERE application_id IN (?)", 3L);
+        InOrder order = inOrder(jdbcTemplate);
+        order.verify(jdbcTemplate).update("DELETE FROM applications WHERE id IN (?,?)", 1L, 2L);
+        order.verify(jdbcTemplate).update("DELETE FROM applications WHERE id IN (?)", 4L);
+        order.verify(jdbcTemplate).update("DELETE FROM applications_archive WHERE id IN (?)", 3L);
+        order.verify(jdbcTemplate).update("DELETE FROM application_events WHERE job_id = ? LIMIT ?", 9L, 2);
+        order.verify(jdbcTemplate).update("DELETE FROM job_application_counters WHERE job_id = ?", 9L);
+        order.verify(jdbcTemplate).update("DELETE FROM recruiter_jobs WHERE id = ? AND deleted_at IS NOT NULL", 9L);
+    }
+}
@@ -0,0 +1,75 @@
+package com.zidioconnect.service;
+
+import com.zidioconnect.model.JobStats;
+import com.zidioconnect.repository.JobStatsRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class JobStatsServiceTest {
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private JobStatsRepository jobStatsRepository;
+    @InjectMocks
+    private JobStatsService service;
+
+    @Test
+    void flushedDeltasAreCountedOnceFromTheTable() {
+        service.recordView(5L);
+        service.recordView(5L);
+        service.recordApplyClick(5L);
+
+        service.flush();
+
+        when(jobStatsRepository.findById(5L)).thenReturn(Optional.of(persisted(5L, 2, 1)));
+        JobStatsService.Stats stats = service.getStats(5L);
+        assertThat(stats.viewCount).isEqualTo(2);
+        assertThat(stats.applyClickCount).isEqualTo(1);
+    }
+
+    @Test
+    void hitOnARetiredAdderIsReadAndFlushed() {
+        service.recordView(5L);
+        service.flush();
+        // Idle through this flush, so the adder is retired
+        service.flush();
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), anyList());
+
+        @SuppressWarnings("unchecked")
+        Map<Long, LongAdder> retired = (Map<Long, LongAdder>) ReflectionTestUtils.getField(service, "retiredViews");
+        retired.get(5L).increment();
+
+        when(jobStatsRepository.findById(5L)).thenReturn(Optional.of(persisted(5L, 1, 0)));
+        assertThat(service.getStats(5L).viewCount).isEqualTo(2);
+
+        service.flush();
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList());
+        assertThat((Map<?, ?>) ReflectionTestUtils.getField(service, "retiredViews")).isEmpty();
+    }
+
+    private static JobStats persisted(Long jobId, long views, long applyClicks) {
+        JobStats stats = new JobStats();
+        stats.setJobId(jobId);
+        stats.setViewCount(views);
+        stats.setApplyClickCount(applyClicks);
+        return stats;
+    }
+}
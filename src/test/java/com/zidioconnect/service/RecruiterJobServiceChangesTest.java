@@ -0,0 +1,152 @@
+package com.zidioconnect.service;
+
+import com.zidioconnect.dto.JobChangesResponse;
+import com.zidioconnect.dto.JobWithCompanyDTO;
+import com.zidioconnect.model.JobTombstone;
+import com.zidioconnect.repository.JobTombstoneRepository;
+import com.zidioconnect.repository.RecruiterJobRepository;
+import com.zidioconnect.util.JobChangesCursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RecruiterJobServiceChangesTest {
+    private static final LocalDateTime T = LocalDateTime.of(2024, 3, 1, 12, 0);
+
+    @Mock
+    private RecruiterJobRepository jobRepo;
+    @Mock
+    private JobTombstoneRepository tombstoneRepo;
+    @InjectMocks
+    private RecruiterJobService service;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(service, "changesSafetyMarginSeconds", 30L);
+    }
+
+    @Test
+    void fullPageResumesFromLastRowSoTiesAreNotSkipped() {
+        // Three jobs share one timestamp; a page of two must not lose the third
+        when(jobRepo.findApprovedUpdatedAfter(eq(T.minusDays(1)), eq(0L), any(), any()))
+                .thenReturn(List.of(job(1L, T), job(2L, T)));
+        when(tombstoneRepo.findRemovedAfter(any(), any(), any(), any())).thenReturn(List.of());
+
+        JobChangesResponse first = service.getChangesSince(JobChangesCursor.since(T.minusDays(1)), 2);
+
+        assertThat(first.hasMore).isTrue();
+        JobChangesCursor next = JobChangesCursor.decode(first.cursor);
+        assertThat(next.getUpdatedAt()).isEqualTo(T);
+        assertThat(next.getJobId()).isEqualTo(2L);
+
+        when(jobRepo.findApprovedUpdatedAfter(eq(T), eq(2L), any(), any())).thenReturn(List.of(job(3L, T)));
+        JobChangesResponse second = service.getChangesSince(next, 2);
+
+        assertThat(second.upserts.stream().map(j -> j.id).toList()).containsExactly(3L);
+        assertThat(second.hasMore).isFalse();
+    }
+
+    @Test
+    void tombstonesKeepTheirOwnPosition() {
+        JobTombstone tombstone = new JobTombstone(7L, "DELETED");
+        tombstone.setId(40L);
+        tombstone.setRemovedAt(T);
+        when(jobRepo.findApprovedUpdatedAfter(any(), any(), any(), any()))
+                .thenReturn(List.of(job(1L, T.plusHours(1))));
+        when(tombstoneRepo.findRemovedAfter(any(), any(), any(), any())).thenReturn(List.of(tombstone));
+
+        JobChangesResponse response = service.getChangesSince(JobChangesCursor.since(T.minusDays(1)), 10);
+
+        JobChangesCursor next = JobChangesCursor.decode(response.cursor);
+        assertThat(next.getUpdatedAt()).isEqualTo(T.plusHours(1));
+        assertThat(next.getJobId()).isEqualTo(1L);
+        assertThat(next.getRemovedAt()).isEqualTo(T);
+        assertThat(next.getTombstoneId()).isEqualTo(40L);
+    }
+
+    @Test
+    void fullTombstonePageHoldsBackNewerUpserts() {
+        // Job 7 was unapproved at T+1h and re-approved at T+2h; the re-approval must not arrive first
+        LocalDateTime since = T.minusDays(1);
+        when(jobRepo.findApprovedUpdatedAfter(eq(since), eq(0L), any(), any()))
+                .thenReturn(List.of(job(7L, T.plusHours(2))));
+        when(tombstoneRepo.findRemovedAfter(eq(since), eq(0L), any(), any()))
+                .thenReturn(List.of(tombstone(40L, 5L, T), tombstone(41L, 7L, T.plusHours(1))));
+
+        JobChangesResponse first = service.getChangesSince(JobChangesCursor.since(since), 2);
+
+        assertThat(first.upserts).isEmpty();
+        assertThat(first.tombstones.stream().map(t -> t.jobId).toList()).containsExactly(5L, 7L);
+        assertThat(first.hasMore).isTrue();
+        JobChangesCursor next = JobChangesCursor.decode(first.cursor);
+        assertThat(next.getUpdatedAt()).isEqualTo(since);
+        assertThat(next.getJobId()).isEqualTo(0L);
+        assertThat(next.getRemovedAt()).isEqualTo(T.plusHours(1));
+        assertThat(next.getTombstoneId()).isEqualTo(41L);
+
+        when(tombstoneRepo.findRemovedAfter(eq(T.plusHours(1)), eq(41L), any(), any())).thenReturn(List.of());
+        JobChangesResponse second = service.getChangesSince(next, 2);
+
+        assertThat(second.upserts.stream().map(j -> j.id).toList()).containsExactly(7L);
+        assertThat(second.hasMore).isFalse();
+    }
+
+    @Test
+    void emptyPageKeepsTheCursorInsteadOfJumpingToNow() {
+        LocalDateTime since = T.minusDays(1);
+        when(jobRepo.findApprovedUpdatedAfter(any(), any(), any(), any())).thenReturn(List.of());
+        when(tombstoneRepo.findRemovedAfter(any(), any(), any(), any())).thenReturn(List.of());
+
+        JobChangesResponse response = service.getChangesSince(JobChangesCursor.since(since), 10);
+
+        JobChangesCursor next = JobChangesCursor.decode(response.cursor);
+        assertThat(next.getUpdatedAt()).isEqualTo(since);
+        assertThat(next.getRemovedAt()).isEqualTo(since);
+        assertThat(response.hasMore).isFalse();
+    }
+
+    @Test
+    void readsStopAtTheSafetyMargin() {
+        when(jobRepo.findApprovedUpdatedAfter(any(), any(), any(), any())).thenReturn(List.of());
+        when(tombstoneRepo.findRemovedAfter(any(), any(), any(), any())).thenReturn(List.of());
+        LocalDateTime before = LocalDateTime.now();
+
+        service.getChangesSince(JobChangesCursor.since(T), 10);
+
+        ArgumentCaptor<LocalDateTime> upTo = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(jobRepo).findApprovedUpdatedAfter(eq(T), eq(0L), upTo.capture(), any(Pageable.class));
+        assertThat(upTo.getValue()).isBefore(before.minusSeconds(29));
+        verify(tombstoneRepo).findRemovedAfter(eq(T), eq(0L), eq(upTo.getValue()), any(Pageable.class));
+    }
+
+    private static JobTombstone tombstone(Long id, Long jobId, LocalDateTime removedAt) {
+        JobTombstone tombstone = new JobTombstone(jobId, "REJECTED");
+        tombstone.setId(id);
+        tombstone.setRemovedAt(removedAt);
+        return tombstone;
+    }
+
+    private static JobWithCompanyDTO job(Long id, LocalDateTime updatedAt) {
+        JobWithCompanyDTO job = new JobWithCompanyDTO();
+        job.id = id;
+        job.adminApprovalStatus = "APPROVED";
+        job.updatedAt = updatedAt;
+        return job;
+    }
+}
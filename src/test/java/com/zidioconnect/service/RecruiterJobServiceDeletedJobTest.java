@@ -0,0 +1,81 @@
+package com.zidioconnect.service;
+
+import com.zidioconnect.dto.RecruiterJobRequest;
+import com.zidioconnect.model.Recruiter;
+import com.zidioconnect.model.RecruiterJob;
+import com.zidioconnect.repository.JobTombstoneRepository;
+import com.zidioconnect.repository.RecruiterJobRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RecruiterJobServiceDeletedJobTest {
+    @Mock
+    private RecruiterJobRepository jobRepo;
+    @Mock
+    private JobTombstoneRepository tombstoneRepo;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @InjectMocks
+    private RecruiterJobService service;
+
+    @Test
+    void adminCannotReapproveDeletedJob() {
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(jobRepo.findById(5L)).thenReturn(Optional.of(deletedJob(5L)));
+
+        assertThat(service.updateApprovalStatus(5L, "APPROVED", null)).isNull();
+
+        verify(jobRepo, never()).saveAndFlush(any());
+        verifyNoInteractions(tombstoneRepo, eventPublisher);
+    }
+
+    @Test
+    void recruiterCannotResubmitDeletedJob() {
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(jobRepo.findById(5L)).thenReturn(Optional.of(deletedJob(5L)));
+        RecruiterJobRequest edit = new RecruiterJobRequest();
+        edit.id = 5L;
+        edit.title = "Back from the dead";
+
+        assertThat(service.saveJob(owner(), edit)).isNull();
+
+        verify(jobRepo, never()).saveAndFlush(any());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    private static Recruiter owner() {
+        Recruiter recruiter = new Recruiter();
+        recruiter.setId(1L);
+        return recruiter;
+    }
+
+    private static RecruiterJob deletedJob(Long id) {
+        RecruiterJob job = new RecruiterJob();
+        job.setId(id);
+        job.setRecruiter(owner());
+        job.setAdminApprovalStatus("DELETED");
+        job.setDeletedAt(LocalDateTime.now().minusMinutes(5));
+        return job;
+    }
+}
@@ -0,0 +1,99 @@
+package com.zidioconnect.service;
+
+import com.zidioconnect.dto.RecruiterJobRequest;
+import com.zidioconnect.event.JobChangedEvent;
+import com.zidioconnect.model.Recruiter;
+import com.zidioconnect.model.RecruiterJob;
+import com.zidioconnect.repository.RecruiterJobRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RecruiterJobServiceSaveJobTest {
+    @Mock
+    private RecruiterJobRepository jobRepo;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+    @Mock
+    private TransactionTemplate transactionTemplate;
+    @InjectMocks
+    private RecruiterJobService service;
+
+    private Recruiter recruiter;
+    private RecruiterJob stored;
+
+    @BeforeEach
+    void setUp() {
+        recruiter = new Recruiter();
+        recruiter.setId(1L);
+        stored = new RecruiterJob();
+        stored.setId(5L);
+        stored.setRecruiter(recruiter);
+        stored.setVersion(4);
+        stored.setAdminApprovalStatus("APPROVED");
+        when(transactionTemplate.execute(any()))
+                .thenAnswer(inv -> inv.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(jobRepo.findById(5L)).thenReturn(Optional.of(stored));
+    }
+
+    @Test
+    void editWithoutVersionSkipsTheCheck() {
+        when(jobRepo.saveAndFlush(stored)).thenReturn(stored);
+
+        RecruiterJob saved = service.saveJob(recruiter, edit(null));
+
+        assertThat(saved.getTitle()).isEqualTo("Backend intern");
+        assertThat(saved.getAdminApprovalStatus()).isEqualTo("APPROVED");
+        verify(eventPublisher).publishEvent(any(JobChangedEvent.class));
+    }
+
+    @Test
+    void editWithCurrentVersionIsSaved() {
+        when(jobRepo.saveAndFlush(stored)).thenReturn(stored);
+
+        assertThat(service.saveJob(recruiter, edit(4L))).isSameAs(stored);
+    }
+
+    @Test
+    void editWithStaleVersionConflicts() {
+        assertThatThrownBy(() -> service.saveJob(recruiter, edit(3L)))
+                .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+        verify(jobRepo, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void otherRecruitersJobIsNotFound() {
+        Recruiter other = new Recruiter();
+        other.setId(2L);
+
+        assertThat(service.saveJob(other, edit(null))).isNull();
+
+        verify(jobRepo, never()).saveAndFlush(any());
+    }
+
+    private static RecruiterJobRequest edit(Long version) {
+        RecruiterJobRequest req = new RecruiterJobRequest();
+        req.id = 5L;
+        req.version = version;
+        req.title = "Backend intern";
+        return req;
+    }
+}
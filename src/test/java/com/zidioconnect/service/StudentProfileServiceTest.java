@@ -0,0 +1,62 @@
+package com.zidioconnect.service;
+
+import com.zidioconnect.dto.StudentProfileRequest;
+import com.zidioconnect.dto.StudentProfileResponse;
+import com.zidioconnect.model.Student;
+import com.zidioconnect.repository.StudentProfileRepository;
+import com.zidioconnect.repository.StudentRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Each save commits on its own, so the version in the response is checked against what was stored
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect")
+@Import(StudentProfileService.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class StudentProfileServiceTest {
+    @Autowired
+    private StudentProfileService profileService;
+    @Autowired
+    private StudentRepository studentRepo;
+    @Autowired
+    private StudentProfileRepository profileRepo;
+
+    @Test
+    void versionReturnedBySaveIsAcceptedByTheNextSave() {
+        Student student = new Student();
+        student.setEmail("student@example.com");
+        student = studentRepo.save(student);
+
+        StudentProfileResponse created = profileService.createOrUpdateProfile(student.getId(),
+                request(null, List.of("java")), student);
+        StudentProfileResponse first = profileService.createOrUpdateProfile(student.getId(),
+                request(created.version, List.of("java", "sql")), student);
+
+        assertThat(first.version).isGreaterThan(created.version);
+        assertThat(first.version).isEqualTo(profileRepo.findById(first.id).orElseThrow().getVersion());
+
+        StudentProfileResponse second = profileService.createOrUpdateProfile(student.getId(),
+                request(first.version, List.of("java", "sql", "spring")), student);
+
+        assertThat(second.version).isGreaterThan(first.version);
+        assertThat(second.version).isEqualTo(profileRepo.findById(second.id).orElseThrow().getVersion());
+        assertThat(second.skills).containsExactly("java", "sql", "spring");
+    }
+
+    private static StudentProfileRequest request(Long version, List<String> skills) {
+        StudentProfileRequest req = new StudentProfileRequest();
+        req.version = version;
+        req.firstName = "Asha";
+        req.lastName = "Rao";
+        req.email = "student@example.com";
+        req.skills = skills;
+        return req;
+    }
+}
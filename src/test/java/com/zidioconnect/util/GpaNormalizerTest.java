@@ -0,0 +1,30 @@
+package com.zidioconnect.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class GpaNormalizerTest {
+    @Test
+    void explicitScalesAreHonoured() {
+        assertThat(GpaNormalizer.normalize("8.5/10")).isCloseTo(0.85, within(1e-9));
+        assertThat(GpaNormalizer.normalize("3.4 / 4")).isCloseTo(0.85, within(1e-9));
+        assertThat(GpaNormalizer.normalize("85%")).isCloseTo(0.85, within(1e-9));
+        assertThat(GpaNormalizer.normalize("CGPA 8.5")).isCloseTo(0.85, within(1e-9));
+    }
+
+    @Test
+    void tenPointGpaSortsAboveNinePoint() {
+        // Lexicographically "10" < "9"; numerically it must not be
+        assertThat(GpaNormalizer.normalize("10")).isGreaterThan(GpaNormalizer.normalize("9"));
+        assertThat(GpaNormalizer.normalize("9.1")).isGreaterThan(GpaNormalizer.normalize("8.5/10"));
+    }
+
+    @Test
+    void unreadableIsZeroAndBlankIsNull() {
+        assertThat(GpaNormalizer.normalize("first class")).isEqualTo(0.0);
+        assertThat(GpaNormalizer.normalize("  ")).isNull();
+        assertThat(GpaNormalizer.normalize(null)).isNull();
+    }
+}
@@ -0,0 +1,50 @@
+package com.zidioconnect.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StipendParserTest {
+    @Test
+    void durationRangeIsNotReadAsAnAmount() {
+        StipendParser.Parsed parsed = StipendParser.parse("3-6 months, \u20b910000/month");
+
+        assertThat(parsed.minMonthly).isEqualTo(10000L);
+        assertThat(parsed.maxMonthly).isEqualTo(10000L);
+        assertThat(parsed.period).isEqualTo(StipendParser.PERIOD_MONTH);
+    }
+
+    @Test
+    void durationWordsDoNotSetThePeriod() {
+        StipendParser.Parsed parsed = StipendParser.parse("2 years, 50000/month");
+
+        assertThat(parsed.minMonthly).isEqualTo(50000L);
+        assertThat(parsed.period).isEqualTo(StipendParser.PERIOD_MONTH);
+    }
+
+    @Test
+    void rangeWithThousandsSeparators() {
+        StipendParser.Parsed parsed = StipendParser.parse("Rs.10,000 - 15,000 per month for 6 months");
+
+        assertThat(parsed.minMonthly).isEqualTo(10000L);
+        assertThat(parsed.maxMonthly).isEqualTo(15000L);
+        assertThat(parsed.currency).isEqualTo("INR");
+    }
+
+    @Test
+    void currencyCodesMatchWholeWordsOnly() {
+        assertThat(StipendParser.parse("Europe office, 20k/month").currency).isEqualTo("INR");
+        assertThat(StipendParser.parse("Neural search team, 30k").currency).isEqualTo("INR");
+        assertThat(StipendParser.parse("500 EUR/week").currency).isEqualTo("EUR");
+        assertThat(StipendParser.parse("\u20ac1500 per month").currency).isEqualTo("EUR");
+        assertThat(StipendParser.parse("$20/hour").currency).isEqualTo("USD");
+    }
+
+    @Test
+    void lakhsPerAnnumAreConvertedToMonthly() {
+        StipendParser.Parsed parsed = StipendParser.parse("4.5 LPA");
+
+        assertThat(parsed.minMonthly).isEqualTo(37500L);
+        assertThat(parsed.period).isEqualTo(StipendParser.PERIOD_YEAR);
+    }
+}